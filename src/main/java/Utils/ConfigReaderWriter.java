@@ -1,51 +1,170 @@
 package Utils;
 
 import java.io.*;
+import java.nio.file.*;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
 public final class ConfigReaderWriter {
     private static final String CONFIG_PATH = "src/test/resources/config.properties";
-    private static final Properties properties = new Properties();
-    private static final ReentrantLock lock = new ReentrantLock();
+    private static final long PERSIST_DELAY_MS = 200;
+    private static final long PERSIST_RETRY_MS = 1000;
+
+    // Immutable snapshots swapped on write: fileValues mirrors config.properties,
+    // values layers system property / environment overrides on top and serves all reads
+    private static volatile Map<String, String> fileValues = Collections.emptyMap();
+    private static volatile Map<String, String> values = Collections.emptyMap();
+    // System properties as of the load, see getOverride
+    private static volatile Map<String, String> systemProperties = Collections.emptyMap();
+
+    private static final ReentrantLock writeLock = new ReentrantLock();
+    private static final AtomicBoolean persistScheduled = new AtomicBoolean();
+    private static final ScheduledExecutorService persister = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "config-persister");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     static {
         loadProperties();
+        Runtime.getRuntime().addShutdownHook(new Thread(ConfigReaderWriter::flush, "config-flush"));
     }
 
     private ConfigReaderWriter() {
     }
 
     private static void loadProperties() {
-        lock.lock();
+        Properties properties = new Properties();
         try (FileInputStream fis = new FileInputStream(CONFIG_PATH)) {
             properties.load(fis);
         } catch (IOException e) {
             throw new ConfigurationException("Failed to load config.properties", e);
-        } finally {
-            lock.unlock();
         }
+
+        Map<String, String> loaded = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> loaded.put(key, properties.getProperty(key)));
+
+        Properties system = System.getProperties();
+        Map<String, String> systemSnapshot = new HashMap<>();
+        system.stringPropertyNames().forEach(key -> systemSnapshot.put(key, system.getProperty(key)));
+        systemProperties = Collections.unmodifiableMap(systemSnapshot);
+        publish(loaded);
     }
 
+    // Lock-free: a single volatile read of the current snapshot
     public static String getPropKey(String key) {
-        lock.lock();
+        String value = values.get(key);
+        return value != null ? value : getOverride(key);
+    }
+
+    public static String getPropKey(String key, String defaultValue) {
+        String value = getPropKey(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getIntPropKey(String key, int defaultValue) {
+        return Integer.parseInt(getPropKey(key, String.valueOf(defaultValue)));
+    }
+
+    public static long getLongPropKey(String key, long defaultValue) {
+        return Long.parseLong(getPropKey(key, String.valueOf(defaultValue)));
+    }
+
+    public static boolean getBooleanPropKey(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getPropKey(key, String.valueOf(defaultValue)));
+    }
+
+    // Every key in config.properties with its effective value (overrides applied), as one consistent snapshot
+    public static Map<String, String> getAllPropKeys() {
+        return values;
+    }
+
+    // Updates the in-memory snapshot immediately; the file is rewritten shortly after
+    // on a background thread so bursts of writes are persisted once
+    public static void setPropKey(String key, String value) {
+        writeLock.lock();
         try {
-            return properties.getProperty(key);
+            Map<String, String> updated = new HashMap<>(fileValues);
+            updated.put(key, value);
+            publish(updated);
         } finally {
-            lock.unlock();
+            writeLock.unlock();
+        }
+
+        if (persistScheduled.compareAndSet(false, true)) {
+            persister.schedule(ConfigReaderWriter::persistInBackground, PERSIST_DELAY_MS, TimeUnit.MILLISECONDS);
         }
     }
 
-    public static void setPropKey(String key, String value) {
-        lock.lock();
-        try (FileOutputStream fos = new FileOutputStream(CONFIG_PATH)) {
-            properties.setProperty(key, value);
-            properties.store(fos, "Updated configuration");
+    // Nobody reads the scheduled future, so a failed write is reported here; flush() has already scheduled the retry
+    private static void persistInBackground() {
+        try {
+            flush();
+        } catch (ConfigurationException e) {
+            System.err.println(e.getMessage() + " (" + e.getCause() + "), retrying in " + PERSIST_RETRY_MS + " ms");
+        }
+    }
+
+    // Writes pending changes to config.properties via a temp file + atomic rename; on failure the changes
+    // stay pending and are retried every PERSIST_RETRY_MS
+    public static void flush() {
+        if (!persistScheduled.getAndSet(false)) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Properties properties = new Properties();
+            properties.putAll(fileValues);
+
+            Path target = Paths.get(CONFIG_PATH).toAbsolutePath();
+            Path temp = Files.createTempFile(target.getParent(), "config", ".properties.tmp");
+            try (OutputStream os = Files.newOutputStream(temp)) {
+                properties.store(os, "Updated configuration");
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
+            // The changes are still pending, so keep retrying in the background until a write succeeds
+            persistScheduled.set(true);
+            persister.schedule(ConfigReaderWriter::persistInBackground, PERSIST_RETRY_MS, TimeUnit.MILLISECONDS);
             throw new ConfigurationException("Failed to update config.properties", e);
         } finally {
-            lock.unlock();
+            writeLock.unlock();
+        }
+    }
+
+    private static void publish(Map<String, String> newFileValues) {
+        Map<String, String> merged = new HashMap<>(newFileValues);
+        newFileValues.keySet().forEach(key -> {
+            String override = getOverride(key);
+            if (override != null) {
+                merged.put(key, override);
+            }
+        });
+        fileValues = Collections.unmodifiableMap(newFileValues);
+        values = Collections.unmodifiableMap(merged);
+    }
+
+    // -Dtrello.api.key=... wins over TRELLO_API_KEY=..., which wins over config.properties.
+    // Overrides are taken once, when config.properties is loaded, for every key whether or not the file has it:
+    // System.setProperty after that has no effect (the environment can't change within the JVM anyway)
+    private static String getOverride(String key) {
+        String value = systemProperties.get(key);
+        if (value != null) {
+            return value;
         }
+        return System.getenv(key.toUpperCase().replace('.', '_').replace('-', '_'));
     }
 
     private static class ConfigurationException extends RuntimeException {
@@ -53,4 +172,4 @@ public final class ConfigReaderWriter {
             super(message, cause);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Trello endpoints resolved once from config.properties into precompiled URL templates,
+// so building a request path is plain concatenation with no config lookups.
+public final class Endpoints {
+    private static final List<String> problems = new ArrayList<>();
+
+    private static final Members MEMBERS = new Members(resolve("trello.endpoint.members"));
+    private static final Organizations ORGANIZATIONS = new Organizations(resolve("trello.endpoint.organizations"));
+    private static final Boards BOARDS = new Boards(resolve("trello.endpoint.boards"));
+    private static final Lists LISTS = new Lists(resolve("trello.endpoint.lists"));
+
+    static {
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid endpoint configuration: " + String.join("; ", problems));
+        }
+    }
+
+    private Endpoints() {
+    }
+
+    // Forces resolution so a bad config.properties fails the suite before any test runs
+    public static void validate() {
+        MEMBERS.path();
+    }
+
+    public static Members members() {
+        return MEMBERS;
+    }
+
+    public static Organizations organizations() {
+        return ORGANIZATIONS;
+    }
+
+    public static Boards boards() {
+        return BOARDS;
+    }
+
+    public static Lists lists() {
+        return LISTS;
+    }
+
+    // The trello.endpoint.* key a request path belongs to, or null when it matches none
+    public static String keyOf(String path) {
+        Resource match = null;
+        for (Resource resource : List.of(MEMBERS, ORGANIZATIONS, BOARDS, LISTS)) {
+            boolean matches = path.equals(resource.path) || path.startsWith(resource.path + "/")
+                    || path.startsWith(resource.path + "?");
+            if (matches && (match == null || resource.path.length() > match.path.length())) {
+                match = resource;
+            }
+        }
+        return match == null ? null : match.key;
+    }
+
+    private static Resolved resolve(String key) {
+        String path = ConfigReaderWriter.getPropKey(key);
+        if (path == null || path.isBlank()) {
+            problems.add(key + " is missing");
+        } else if (!path.startsWith("/") || path.endsWith("/") || path.chars().anyMatch(Character::isWhitespace)) {
+            problems.add(key + "=" + path + " must start with '/', not end with '/' and contain no whitespace");
+        }
+        return new Resolved(key, path);
+    }
+
+    private static final class Resolved {
+        private final String key;
+        private final String path;
+
+        private Resolved(String key, String path) {
+            this.key = key;
+            this.path = path;
+        }
+    }
+
+    // A path with a single {id} placeholder, split once into the parts around it
+    public static final class Template {
+        private final String prefix;
+        private final String suffix;
+
+        private Template(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        public String expand(String id) {
+            if (id == null || id.isEmpty()) {
+                throw new IllegalArgumentException("Missing id for endpoint " + prefix + "{id}" + suffix);
+            }
+            return prefix + id + suffix;
+        }
+
+        @Override
+        public String toString() {
+            return prefix + "{id}" + suffix;
+        }
+    }
+
+    public static class Resource {
+        private final String key;
+        private final String path;
+        private final Template item;
+
+        private Resource(Resolved resolved) {
+            this.key = resolved.key;
+            this.path = resolved.path;
+            this.item = new Template(resolved.path + "/", "");
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public String path() {
+            return path;
+        }
+
+        public String byId(String id) {
+            return item.expand(id);
+        }
+
+        protected Template child(String subPath) {
+            return new Template(path + "/", "/" + subPath);
+        }
+    }
+
+    public static final class Members extends Resource {
+        private Members(Resolved resolved) {
+            super(resolved);
+        }
+    }
+
+    public static final class Organizations extends Resource {
+        private Organizations(Resolved resolved) {
+            super(resolved);
+        }
+    }
+
+    public static final class Boards extends Resource {
+        private final Template lists = child("lists");
+
+        private Boards(Resolved resolved) {
+            super(resolved);
+        }
+
+        public String lists(String boardId) {
+            return lists.expand(boardId);
+        }
+    }
+
+    public static final class Lists extends Resource {
+        private final Template closed = child("closed");
+
+        private Lists(Resolved resolved) {
+            super(resolved);
+        }
+
+        public String closed(String listId) {
+            return closed.expand(listId);
+        }
+    }
+}
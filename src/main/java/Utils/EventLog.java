@@ -0,0 +1,199 @@
+package Utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Typed run events next to the text logs, one directory per run under log.events.dir:
+//   <run>/events.jsonl      one flat JSON object per line: test_start, test_end, api_call
+//   <run>/index.properties  what the run contains (types, classes, statuses, endpoints), written at close
+// The run id sorts by start time and carries the pid, so parallel JVMs never share a directory.
+// EventQuery reads the index to skip runs that can't match and streams the rest line by line.
+final class EventLog {
+    static final String EVENTS_FILE = "events.jsonl";
+    static final String INDEX_FILE = "index.properties";
+    static final String TEST_START = "test_start";
+    static final String TEST_END = "test_end";
+    static final String API_CALL = "api_call";
+
+    private static final boolean ENABLED = ConfigReaderWriter.getBooleanPropKey("log.events.enabled", true);
+    private static final Path RUN_DIR = Paths.get(ConfigReaderWriter.getPropKey("log.events.dir", "target/events"))
+            .resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"))
+                    + "-" + ProcessHandle.current().pid());
+
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static Writer writer;
+
+    // Start time per running test invocation (class#method#thread) for test_end durations
+    private static final Map<String, Long> testStarts = new ConcurrentHashMap<>();
+
+    // Index contents, guarded by lock
+    private static long firstTimestamp;
+    private static long lastTimestamp;
+    private static final Map<String, Long> typeCounts = new TreeMap<>();
+    private static final Set<String> classes = new TreeSet<>();
+    private static final Set<String> statuses = new TreeSet<>();
+    private static final Set<String> results = new TreeSet<>();
+    private static final Set<String> endpoints = new TreeSet<>();
+
+    private EventLog() {
+    }
+
+    static void testStart(String testClassName, String testMethodName) {
+        if (!ENABLED) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        testStarts.put(invocationKey(testClassName, testMethodName), now);
+        write(now, TEST_START, new StringBuilder()
+                .append(",\"class\":").append(quote(testClassName))
+                .append(",\"test\":").append(quote(testMethodName)), testClassName, null, null, null);
+    }
+
+    static void testEnd(String testClassName, String testMethodName, String result) {
+        if (!ENABLED) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long started = testStarts.remove(invocationKey(testClassName, testMethodName));
+        StringBuilder fields = new StringBuilder()
+                .append(",\"class\":").append(quote(testClassName))
+                .append(",\"test\":").append(quote(testMethodName))
+                .append(",\"result\":").append(quote(result));
+        if (started != null) {
+            fields.append(",\"durationMs\":").append(now - started);
+        }
+        write(now, TEST_END, fields, testClassName, null, result, null);
+    }
+
+    // durationMs < 0 when the caller didn't measure the call
+    static void apiCall(String testClassName, String method, String endpoint, int statusCode, long durationMs) {
+        if (!ENABLED) {
+            return;
+        }
+        String template = LatencyRecorder.pathTemplate(endpoint);
+        StringBuilder fields = new StringBuilder()
+                .append(",\"class\":").append(quote(testClassName))
+                .append(",\"method\":").append(quote(method))
+                .append(",\"endpoint\":").append(quote(endpoint))
+                .append(",\"template\":").append(quote(template))
+                .append(",\"status\":").append(statusCode);
+        if (durationMs >= 0) {
+            fields.append(",\"durationMs\":").append(durationMs);
+        }
+        write(System.currentTimeMillis(), API_CALL, fields, testClassName, String.valueOf(statusCode), null,
+                method + " " + template);
+    }
+
+    // Flushes the events and writes the run index; events logged afterwards are appended and re-indexed on the next close
+    static void close() {
+        if (!ENABLED) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (writer == null) {
+                return;
+            }
+            writer.close();
+            writer = null;
+            writeIndex();
+        } catch (IOException e) {
+            System.err.println("Failed to close event log in " + RUN_DIR + ": " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void write(long timestamp, String type, StringBuilder fields, String testClassName,
+                              String status, String result, String endpoint) {
+        String line = "{\"ts\":" + timestamp + ",\"type\":\"" + type + "\",\"thread\":"
+                + quote(Thread.currentThread().getName()) + fields + "}\n";
+        lock.lock();
+        try {
+            if (writer == null) {
+                Files.createDirectories(RUN_DIR);
+                writer = new BufferedWriter(Files.newBufferedWriter(RUN_DIR.resolve(EVENTS_FILE), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+            }
+            writer.write(line);
+
+            if (firstTimestamp == 0) {
+                firstTimestamp = timestamp;
+            }
+            lastTimestamp = Math.max(lastTimestamp, timestamp);
+            typeCounts.merge(type, 1L, Long::sum);
+            classes.add(testClassName);
+            if (status != null) {
+                statuses.add(status);
+            }
+            if (result != null) {
+                results.add(result);
+            }
+            if (endpoint != null) {
+                endpoints.add(endpoint);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write event to " + RUN_DIR + ": " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void writeIndex() throws IOException {
+        Properties index = new Properties();
+        index.setProperty("run", RUN_DIR.getFileName().toString());
+        index.setProperty("started", String.valueOf(firstTimestamp));
+        index.setProperty("ended", String.valueOf(lastTimestamp));
+        typeCounts.forEach((type, count) -> index.setProperty("count." + type, String.valueOf(count)));
+        index.setProperty("classes", String.join(",", classes));
+        index.setProperty("statuses", String.join(",", statuses));
+        index.setProperty("results", String.join(",", results));
+        index.setProperty("endpoints", String.join(",", endpoints));
+        try (Writer indexWriter = Files.newBufferedWriter(RUN_DIR.resolve(INDEX_FILE), StandardCharsets.UTF_8)) {
+            index.store(indexWriter, "Event index, written by EventLog");
+        }
+    }
+
+    private static String invocationKey(String testClassName, String testMethodName) {
+        return testClassName + "#" + testMethodName + "#" + Thread.currentThread().getId();
+    }
+
+    static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': quoted.append("\\\""); break;
+                case '\\': quoted.append("\\\\"); break;
+                case '\n': quoted.append("\\n"); break;
+                case '\r': quoted.append("\\r"); break;
+                case '\t': quoted.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,342 @@
+package Utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+// Command-line query over the run directories EventLog writes, e.g.
+//   java -cp target/classes Utils.EventQuery --type api_call --status 5xx --group-by template
+//   java -cp target/classes Utils.EventQuery --last 20 --type test_end --result FAILED --group-by class,test
+// Runs whose index.properties rules out a match are skipped unread; the others are streamed line by
+// line, so memory use depends on the number of groups, not on the number or size of runs.
+public final class EventQuery {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -cp target/classes Utils.EventQuery [options]",
+            "  --dir <path>          run directories to search (default: log.events.dir)",
+            "  --last <n>            only the newest n runs",
+            "  --since <prefix>      only runs whose id sorts at or after the prefix, e.g. 20261018 or 20261018-13",
+            "  --type <type>         test_start, test_end or api_call",
+            "  --class <name>        test class",
+            "  --test <name>         test method",
+            "  --result <result>     test_end result, e.g. PASSED or FAILED",
+            "  --method <method>     HTTP method of api_call events",
+            "  --endpoint <text>     api_call path or template containing the text",
+            "  --status <code>       api_call status, e.g. 404 or 5xx",
+            "  --min-ms <n>          events with durationMs >= n",
+            "  --group-by <fields>   comma-separated fields (run, type, class, test, result, method, endpoint, template, status, thread);",
+            "                        prints count, failures and durationMs percentiles per group instead of events",
+            "  --limit <n>           events (or groups) to print, default 100");
+
+    private final Map<String, String> options;
+    private final long limit;
+    private final Long minMillis;
+    private final List<String> groupBy;
+
+    private EventQuery(Map<String, String> options) {
+        this.options = options;
+        this.limit = Long.parseLong(options.getOrDefault("limit", "100"));
+        this.minMillis = options.containsKey("min-ms") ? Long.parseLong(options.get("min-ms")) : null;
+        this.groupBy = options.containsKey("group-by")
+                ? Arrays.asList(options.get("group-by").split("\\s*,\\s*"))
+                : null;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length || "--help".equals(args[i])) {
+                System.err.println(USAGE);
+                System.exit("--help".equals(args[i]) ? 0 : 2);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        new EventQuery(options).run(System.out, System.err);
+    }
+
+    private void run(PrintStream out, PrintStream err) throws IOException {
+        Path dir = Paths.get(options.getOrDefault("dir", ConfigReaderWriter.getPropKey("log.events.dir", "target/events")));
+        List<Path> runs = listRuns(dir);
+        Map<String, Group> groups = new LinkedHashMap<>();
+        long printed = 0;
+        int scanned = 0;
+        int skipped = 0;
+
+        for (Path run : runs) {
+            if (!mayMatch(run)) {
+                skipped++;
+                continue;
+            }
+            scanned++;
+            String runId = run.getFileName().toString();
+            try (BufferedReader reader = Files.newBufferedReader(run.resolve(EventLog.EVENTS_FILE), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null && (groupBy != null || printed < limit)) {
+                    if (!quickMatch(line)) {
+                        continue;
+                    }
+                    Map<String, String> event = parse(line);
+                    if (event == null || !matches(event)) {
+                        continue;
+                    }
+                    if (groupBy == null) {
+                        out.println(runId + " " + line);
+                        printed++;
+                    } else {
+                        event.put("run", runId);
+                        String key = groupBy.stream().map(field -> String.valueOf(event.get(field))).collect(Collectors.joining(" | "));
+                        groups.computeIfAbsent(key, k -> new Group()).add(event);
+                    }
+                }
+            }
+        }
+
+        if (groupBy != null) {
+            printGroups(out, groups);
+        }
+        err.printf("%d of %d run(s) scanned, %d skipped by index%n", scanned, runs.size(), skipped);
+    }
+
+    // Newest last; --since and --last narrow the list by run id, which sorts by start time
+    private List<Path> listRuns(Path dir) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        if (!Files.isDirectory(dir)) {
+            return runs;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                if (Files.isRegularFile(entry.resolve(EventLog.EVENTS_FILE))) {
+                    runs.add(entry);
+                }
+            }
+        }
+        runs.sort(Comparator.comparing(run -> run.getFileName().toString()));
+        String since = options.get("since");
+        if (since != null) {
+            runs.removeIf(run -> run.getFileName().toString().compareTo(since) < 0);
+        }
+        if (options.containsKey("last")) {
+            int last = Integer.parseInt(options.get("last"));
+            runs = new ArrayList<>(runs.subList(Math.max(runs.size() - last, 0), runs.size()));
+        }
+        return runs;
+    }
+
+    // False only when the run's index proves that no event can match; runs without an index
+    // (still running or killed) are always scanned
+    private boolean mayMatch(Path run) throws IOException {
+        Path indexFile = run.resolve(EventLog.INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            return true;
+        }
+        Properties index = new Properties();
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            index.load(reader);
+        }
+        String type = options.get("type");
+        if (type != null && !index.containsKey("count." + type)) {
+            return false;
+        }
+        if (options.containsKey("class") && !listed(index, "classes").contains(options.get("class"))) {
+            return false;
+        }
+        if (options.containsKey("result") && !listed(index, "results").contains(options.get("result"))) {
+            return false;
+        }
+        if (options.containsKey("status") && listed(index, "statuses").stream().noneMatch(this::statusMatches)) {
+            return false;
+        }
+        String method = options.get("method");
+        return method == null || listed(index, "endpoints").stream().anyMatch(endpoint -> endpoint.startsWith(method.toUpperCase() + " "));
+    }
+
+    private static List<String> listed(Properties index, String name) {
+        String value = index.getProperty(name, "");
+        return value.isEmpty() ? List.of() : Arrays.asList(value.split(","));
+    }
+
+    // EventLog writes "field":"value" without spaces, so exact-match filters can reject a line before parsing it
+    private boolean quickMatch(String line) {
+        for (String field : new String[]{"type", "class", "test", "result"}) {
+            String value = options.get(field);
+            if (value != null && !line.contains("\"" + field + "\":" + EventLog.quote(value))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(Map<String, String> event) {
+        String method = options.get("method");
+        if (method != null && !method.equalsIgnoreCase(event.get("method"))) {
+            return false;
+        }
+        String endpoint = options.get("endpoint");
+        if (endpoint != null && !contains(event.get("endpoint"), endpoint) && !contains(event.get("template"), endpoint)) {
+            return false;
+        }
+        if (options.containsKey("status") && (event.get("status") == null || !statusMatches(event.get("status")))) {
+            return false;
+        }
+        if (minMillis != null) {
+            String duration = event.get("durationMs");
+            return duration != null && Long.parseLong(duration) >= minMillis;
+        }
+        return true;
+    }
+
+    private static boolean contains(String value, String text) {
+        return value != null && value.contains(text);
+    }
+
+    // "404" matches exactly, "4xx" matches the whole class
+    private boolean statusMatches(String status) {
+        String wanted = options.get("status").toLowerCase(Locale.ROOT);
+        if (wanted.endsWith("xx")) {
+            return status.startsWith(wanted.substring(0, wanted.length() - 2));
+        }
+        return status.equals(wanted);
+    }
+
+    private void printGroups(PrintStream out, Map<String, Group> groups) {
+        List<Map.Entry<String, Group>> sorted = new ArrayList<>(groups.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<String, Group> entry) -> entry.getValue().count).reversed());
+        out.printf("%-60s %8s %8s %10s %10s %10s %10s%n", String.join(" | ", groupBy),
+                "count", "failures", "avg ms", "p50 ms", "p95 ms", "max ms");
+        sorted.stream().limit(limit).forEach(entry -> {
+            Group group = entry.getValue();
+            LatencyHistogram durations = group.durations;
+            boolean timed = durations.getCount() > 0;
+            out.printf(Locale.ROOT, "%-60s %8d %8d %10s %10s %10s %10s%n", entry.getKey(), group.count, group.failures,
+                    timed ? String.format(Locale.ROOT, "%.1f", durations.getMeanMicros() / 1000.0) : "-",
+                    timed ? String.valueOf(durations.getPercentileMicros(50) / 1000) : "-",
+                    timed ? String.valueOf(durations.getPercentileMicros(95) / 1000) : "-",
+                    timed ? String.valueOf(durations.getMaxMicros() / 1000) : "-");
+        });
+    }
+
+    // Parses the flat objects EventLog writes (string, number and null values); null for anything else
+    static Map<String, String> parse(String line) {
+        Map<String, String> fields = new HashMap<>();
+        int i = skipSpaces(line, 0);
+        if (i >= line.length() || line.charAt(i) != '{') {
+            return null;
+        }
+        i = skipSpaces(line, i + 1);
+        while (i < line.length() && line.charAt(i) != '}') {
+            StringBuilder name = new StringBuilder();
+            i = readString(line, i, name);
+            if (i < 0) {
+                return null;
+            }
+            i = skipSpaces(line, i);
+            if (i >= line.length() || line.charAt(i) != ':') {
+                return null;
+            }
+            i = skipSpaces(line, i + 1);
+            if (i >= line.length()) {
+                return null;
+            }
+            if (line.charAt(i) == '"') {
+                StringBuilder value = new StringBuilder();
+                i = readString(line, i, value);
+                if (i < 0) {
+                    return null;
+                }
+                fields.put(name.toString(), value.toString());
+            } else {
+                int end = i;
+                while (end < line.length() && ",} ".indexOf(line.charAt(end)) < 0) {
+                    end++;
+                }
+                String value = line.substring(i, end);
+                if (!"null".equals(value)) {
+                    fields.put(name.toString(), value);
+                }
+                i = end;
+            }
+            i = skipSpaces(line, i);
+            if (i < line.length() && line.charAt(i) == ',') {
+                i = skipSpaces(line, i + 1);
+            }
+        }
+        return i < line.length() ? fields : null;
+    }
+
+    private static int skipSpaces(String line, int i) {
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    // Reads the string starting at the opening quote into out; returns the index after the closing quote or -1
+    private static int readString(String line, int i, StringBuilder out) {
+        if (line.charAt(i) != '"') {
+            return -1;
+        }
+        for (i++; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                return i + 1;
+            }
+            if (c != '\\') {
+                out.append(c);
+                continue;
+            }
+            if (++i == line.length()) {
+                return -1;
+            }
+            char escaped = line.charAt(i);
+            switch (escaped) {
+                case 'n': out.append('\n'); break;
+                case 'r': out.append('\r'); break;
+                case 't': out.append('\t'); break;
+                case 'b': out.append('\b'); break;
+                case 'f': out.append('\f'); break;
+                case 'u':
+                    if (i + 4 >= line.length()) {
+                        return -1;
+                    }
+                    out.append((char) Integer.parseInt(line.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default: out.append(escaped);
+            }
+        }
+        return -1;
+    }
+
+    private static final class Group {
+        private long count;
+        private long failures;
+        private final LatencyHistogram durations = new LatencyHistogram();
+
+        private void add(Map<String, String> event) {
+            count++;
+            String status = event.get("status");
+            if ("FAILED".equals(event.get("result")) || (status != null && (Integer.parseInt(status) == 0 || Integer.parseInt(status) >= 400))) {
+                failures++;
+            }
+            String duration = event.get("durationMs");
+            if (duration != null) {
+                durations.record(Long.parseLong(duration) * 1000);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package Utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free, HDR-style log-linear histogram of durations in microseconds.
+// Every power-of-two range is split into 64 linear sub-buckets, so recorded values
+// are reported within ~1.6% of their true value from 1us up to hours.
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values below this are recorded exactly; above it each octave gets SUB_BUCKETS buckets
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = LINEAR_LIMIT + (62 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        record(TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0)));
+    }
+
+    public void record(long micros) {
+        long value = Math.max(micros, 0);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = other.counts.get(i);
+            if (bucketCount > 0) {
+                counts.addAndGet(i, bucketCount);
+            }
+        }
+        count.addAndGet(other.count.get());
+        sum.addAndGet(other.sum.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    public double getMeanMicros() {
+        long total = count.get();
+        return total == 0 ? 0 : (double) sum.get() / total;
+    }
+
+    // Highest value equivalent to the bucket holding the given percentile (0-100)
+    public long getPercentileMicros(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    // Compact text form ("count:sum:max:bucket=count,...", empty buckets left out) for merging runs from other JVMs
+    public String encode() {
+        StringBuilder encoded = new StringBuilder().append(count.get()).append(':').append(sum.get()).append(':').append(max.get()).append(':');
+        boolean first = true;
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = counts.get(i);
+            if (bucketCount > 0) {
+                encoded.append(first ? "" : ",").append(i).append('=').append(bucketCount);
+                first = false;
+            }
+        }
+        return encoded.toString();
+    }
+
+    public static LatencyHistogram decode(String encoded) {
+        String[] parts = encoded.trim().split(":", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Not an encoded histogram: " + encoded);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.count.set(Long.parseLong(parts[0]));
+        histogram.sum.set(Long.parseLong(parts[1]));
+        histogram.max.set(Long.parseLong(parts[2]));
+        if (!parts[3].isEmpty()) {
+            for (String bucket : parts[3].split(",")) {
+                int separator = bucket.indexOf('=');
+                histogram.counts.set(Integer.parseInt(bucket.substring(0, separator)), Long.parseLong(bucket.substring(separator + 1)));
+            }
+        }
+        return histogram;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        long subBucket = (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) subBucket;
+    }
+
+    private static long highestValueIn(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
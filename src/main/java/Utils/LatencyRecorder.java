@@ -0,0 +1,201 @@
+package Utils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// Collects per-endpoint latency histograms for every API call of the run and writes
+// them as latency-report.json / latency-report.csv at the end of the suite.
+public final class LatencyRecorder {
+    // Trello ids are 24 hex characters; they are folded into {id} so each endpoint gets one histogram
+    private static final Pattern ID_SEGMENT = Pattern.compile("/[0-9a-fA-F]{24}(?=/|$)");
+
+    private static final String HISTOGRAMS_FILE = "latency-histograms.properties";
+
+    private static final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private static final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+    private static final AtomicLong lastEndNanos = new AtomicLong(Long.MIN_VALUE);
+
+    private LatencyRecorder() {
+    }
+
+    public static String endpointKey(String method, String path) {
+        return method.toUpperCase() + " " + pathTemplate(path);
+    }
+
+    public static String pathTemplate(String path) {
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    public static void record(String method, String path, int statusCode, long startNanos,
+                              long totalNanos, long connectNanos, long timeToFirstByteNanos) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpointKey(method, path), key -> new EndpointStats());
+        stats.total.recordNanos(totalNanos);
+        stats.connect.recordNanos(connectNanos);
+        stats.timeToFirstByte.recordNanos(timeToFirstByteNanos);
+        if (statusCode == 0 || statusCode >= 400) {
+            stats.errors.incrementAndGet();
+        }
+        firstStartNanos.accumulateAndGet(startNanos, Math::min);
+        lastEndNanos.accumulateAndGet(startNanos + totalNanos, Math::max);
+    }
+
+    // Writes both reports into the directory and returns a one-line summary for the suite log
+    public static String writeReports(Path directory) throws IOException {
+        double seconds = Math.max(lastEndNanos.get() - firstStartNanos.get(), 1) / 1e9;
+        return write(new TreeMap<>(endpoints), seconds, directory);
+    }
+
+    // Combines the reports of runs that went in parallel (e.g. shards in other JVMs) into one report in
+    // the directory; throughput is over the longest run, since the runs overlapped
+    public static String mergeReports(List<Path> reportDirectories, Path directory) throws IOException {
+        Map<String, EndpointStats> merged = new TreeMap<>();
+        double seconds = 0;
+        for (Path reportDirectory : reportDirectories) {
+            Path file = reportDirectory.resolve(HISTOGRAMS_FILE);
+            if (!Files.exists(file)) {
+                continue;
+            }
+            Properties histograms = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                histograms.load(reader);
+            }
+            seconds = Math.max(seconds, Double.parseDouble(histograms.getProperty("durationMs", "0")) / 1000);
+            for (String name : histograms.stringPropertyNames()) {
+                if (name.endsWith(".errors")) {
+                    String endpoint = name.substring(0, name.length() - ".errors".length());
+                    EndpointStats stats = new EndpointStats();
+                    stats.total.add(LatencyHistogram.decode(histograms.getProperty(endpoint + ".total")));
+                    stats.connect.add(LatencyHistogram.decode(histograms.getProperty(endpoint + ".connect")));
+                    stats.timeToFirstByte.add(LatencyHistogram.decode(histograms.getProperty(endpoint + ".ttfb")));
+                    stats.errors.addAndGet(Long.parseLong(histograms.getProperty(name)));
+                    merged.computeIfAbsent(endpoint, key -> new EndpointStats()).add(stats);
+                }
+            }
+        }
+        return write(merged, Math.max(seconds, 1e-9), directory);
+    }
+
+    private static String write(Map<String, EndpointStats> sorted, double seconds, Path directory) throws IOException {
+        EndpointStats overall = new EndpointStats();
+        sorted.values().forEach(overall::add);
+
+        Files.createDirectories(directory);
+        writeJson(directory.resolve("latency-report.json"), sorted, overall, seconds);
+        writeCsv(directory.resolve("latency-report.csv"), sorted, overall, seconds);
+        writeHistograms(directory.resolve(HISTOGRAMS_FILE), sorted, seconds);
+
+        return String.format(Locale.ROOT, "LATENCY REPORT: %d requests, %.1f req/s, error rate %.1f%%, p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms -> %s",
+                overall.total.getCount(), overall.total.getCount() / seconds, overall.errorRate() * 100,
+                millis(overall.total.getPercentileMicros(50)), millis(overall.total.getPercentileMicros(90)),
+                millis(overall.total.getPercentileMicros(99)), millis(overall.total.getMaxMicros()), directory);
+    }
+
+    public static long getRequestCount() {
+        return endpoints.values().stream().mapToLong(stats -> stats.total.getCount()).sum();
+    }
+
+    public static void reset() {
+        endpoints.clear();
+        firstStartNanos.set(Long.MAX_VALUE);
+        lastEndNanos.set(Long.MIN_VALUE);
+    }
+
+    private static void writeJson(Path file, Map<String, EndpointStats> sorted, EndpointStats overall, double seconds) throws IOException {
+        List<String> entries = new ArrayList<>();
+        sorted.forEach((endpoint, stats) -> entries.add(stats.toJson(endpoint, seconds)));
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.println("{");
+            writer.printf(Locale.ROOT, "  \"generatedAt\": \"%s\",%n", LocalDateTime.now());
+            writer.printf(Locale.ROOT, "  \"durationMs\": %.1f,%n", seconds * 1000);
+            writer.printf(Locale.ROOT, "  \"overall\": %s,%n", overall.toJson("ALL", seconds));
+            writer.printf("  \"endpoints\": [%n    %s%n  ]%n", String.join(",\n    ", entries));
+            writer.println("}");
+        }
+    }
+
+    private static void writeCsv(Path file, Map<String, EndpointStats> sorted, EndpointStats overall, double seconds) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.println("endpoint,count,errors,error_rate,throughput_rps,"
+                    + "total_p50_ms,total_p90_ms,total_p99_ms,total_max_ms,"
+                    + "connect_p50_ms,connect_p99_ms,ttfb_p50_ms,ttfb_p99_ms");
+            sorted.forEach((endpoint, stats) -> writer.println(stats.toCsv(endpoint, seconds)));
+            writer.println(overall.toCsv("ALL", seconds));
+        }
+    }
+
+    // Raw histograms, so reports from several JVMs can be merged without averaging percentiles
+    private static void writeHistograms(Path file, Map<String, EndpointStats> sorted, double seconds) throws IOException {
+        Properties histograms = new Properties();
+        histograms.setProperty("durationMs", String.format(Locale.ROOT, "%.1f", seconds * 1000));
+        sorted.forEach((endpoint, stats) -> {
+            histograms.setProperty(endpoint + ".total", stats.total.encode());
+            histograms.setProperty(endpoint + ".connect", stats.connect.encode());
+            histograms.setProperty(endpoint + ".ttfb", stats.timeToFirstByte.encode());
+            histograms.setProperty(endpoint + ".errors", String.valueOf(stats.errors.get()));
+        });
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            histograms.store(writer, "Latency histograms, written by LatencyRecorder");
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class EndpointStats {
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram connect = new LatencyHistogram();
+        private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+
+        private void add(EndpointStats other) {
+            total.add(other.total);
+            connect.add(other.connect);
+            timeToFirstByte.add(other.timeToFirstByte);
+            errors.addAndGet(other.errors.get());
+        }
+
+        private double errorRate() {
+            return total.getCount() == 0 ? 0 : (double) errors.get() / total.getCount();
+        }
+
+        private String toJson(String endpoint, double seconds) {
+            return String.format(Locale.ROOT, "{\"endpoint\": \"%s\", \"count\": %d, \"errors\": %d, \"errorRate\": %.4f, "
+                            + "\"throughputRps\": %.2f, \"totalMs\": %s, \"connectMs\": %s, \"ttfbMs\": %s}",
+                    endpoint, total.getCount(), errors.get(), errorRate(), total.getCount() / seconds,
+                    percentilesJson(total), percentilesJson(connect), percentilesJson(timeToFirstByte));
+        }
+
+        private String toCsv(String endpoint, double seconds) {
+            return String.format(Locale.ROOT, "\"%s\",%d,%d,%.4f,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    endpoint, total.getCount(), errors.get(), errorRate(), total.getCount() / seconds,
+                    millis(total.getPercentileMicros(50)), millis(total.getPercentileMicros(90)),
+                    millis(total.getPercentileMicros(99)), millis(total.getMaxMicros()),
+                    millis(connect.getPercentileMicros(50)), millis(connect.getPercentileMicros(99)),
+                    millis(timeToFirstByte.getPercentileMicros(50)), millis(timeToFirstByte.getPercentileMicros(99)));
+        }
+
+        private static String percentilesJson(LatencyHistogram histogram) {
+            return String.format(Locale.ROOT, "{\"p50\": %.3f, \"p90\": %.3f, \"p99\": %.3f, \"max\": %.3f, \"mean\": %.3f}",
+                    millis(histogram.getPercentileMicros(50)), millis(histogram.getPercentileMicros(90)),
+                    millis(histogram.getPercentileMicros(99)), millis(histogram.getMaxMicros()),
+                    histogram.getMeanMicros() / 1000.0);
+        }
+    }
+}
@@ -2,19 +2,56 @@
 package Utils;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class LogManager {
-    private static final String LOG_DIR = "target/logs";
+    private static final String LOG_DIR = ConfigReaderWriter.getPropKey("log.dir", "target/logs");
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy-HH-mm-ss");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
     private static final ConcurrentHashMap<String, PrintStream> logStreams = new ConcurrentHashMap<>();
+    // Every class's log file, kept after closeAllStreams() so late lines go to the same file
+    private static final ConcurrentHashMap<String, Path> logFiles = new ConcurrentHashMap<>();
+    private static volatile boolean closed;
     private static final ReentrantLock lock = new ReentrantLock();
 
+    // log.mode=async (as shipped in config.properties) hands lines to a background writer;
+    // log.mode=sync, or no log.mode at all, writes on the caller thread
+    private static final boolean ASYNC = "async".equalsIgnoreCase(ConfigReaderWriter.getPropKey("log.mode", "sync"));
+    private static final long FLUSH_INTERVAL_MS = ConfigReaderWriter.getLongPropKey("log.async.flush.ms", 50);
+    private static final ConcurrentHashMap<String, Queue<String>> pendingLines = new ConcurrentHashMap<>();
+    private static final Queue<String> pendingConsoleLines = new ConcurrentLinkedQueue<>();
+    // Backpressure: at most log.async.queue.capacity file lines wait for the writer; a caller finding the queue
+    // full waits up to log.async.offer.timeout.ms for room, then drops its line (counted per class, reported at close)
+    private static final int QUEUE_CAPACITY = ConfigReaderWriter.getIntPropKey("log.async.queue.capacity", 65536);
+    private static final long OFFER_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(ConfigReaderWriter.getLongPropKey("log.async.offer.timeout.ms", 100));
+    private static final AtomicInteger pendingCount = new AtomicInteger();
+    private static final ConcurrentHashMap<String, AtomicLong> droppedLines = new ConcurrentHashMap<>();
+    private static volatile Thread writerThread;
+
+    // Notified of every logged API call on the thread that logged it
+    private static final List<ApiCallListener> apiCallListeners = new CopyOnWriteArrayList<>();
+
     static {
         createLogDirectory();
+        if (ASYNC) {
+            startWriter();
+            Runtime.getRuntime().addShutdownHook(new Thread(LogManager::closeAllStreams, "log-shutdown"));
+        }
     }
 
     private static void createLogDirectory() {
@@ -26,13 +63,12 @@ public class LogManager {
 
     public static PrintStream getLogStream(String testClassName) {
         return logStreams.computeIfAbsent(testClassName, className -> {
-            String timestamp = LocalDateTime.now().format(DATE_FORMAT);
-            String logFileName = String.format("%s/%s_%s.log", LOG_DIR, className, timestamp);
+            String logFileName = logFileOf(className).toString();
 
             try {
                 File logFile = new File(logFileName);
-                FileOutputStream fos = new FileOutputStream(logFile);
-                PrintStream logStream = new PrintStream(fos, true);
+                // Buffered and size-capped; the async writer flushes once per batch, so only sync mode needs autoflush
+                PrintStream logStream = new PrintStream(new RollingLogFile(logFile), !ASYNC);
 
                 // Write header to log file
                 logStream.println("=".repeat(80));
@@ -51,12 +87,30 @@ public class LogManager {
     }
 
     public static void log(String testClassName, String message) {
+        String timestamp = LocalDateTime.now().format(TIME_FORMAT);
+        if (ASYNC && writerThread != null) {
+            if (!reserveQueueSlot()) {
+                droppedLines.computeIfAbsent(testClassName, className -> new AtomicLong()).incrementAndGet();
+                return;
+            }
+            pendingLines.computeIfAbsent(testClassName, className -> new ConcurrentLinkedQueue<>())
+                    .offer("[" + timestamp + "] " + message);
+            pendingConsoleLines.offer("[" + timestamp + "] " + testClassName + " - " + message);
+            if (writerThread == null) {
+                // closeAllStreams() stopped the writer and may have drained before these lines were queued
+                lock.lock();
+                try {
+                    drainPendingLines();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return;
+        }
+
         lock.lock();
         try {
-            PrintStream logStream = getLogStream(testClassName);
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-            logStream.println("[" + timestamp + "] " + message);
-            logStream.flush();
+            writeToFile(testClassName, "[" + timestamp + "] " + message + System.lineSeparator());
 
             // Also log to console
             System.out.println("[" + timestamp + "] " + testClassName + " - " + message);
@@ -67,22 +121,65 @@ public class LogManager {
 
     public static void logTestStart(String testClassName, String testMethodName) {
         log(testClassName, ">>> STARTING TEST: " + testMethodName);
+        EventLog.testStart(testClassName, testMethodName);
     }
 
     public static void logTestEnd(String testClassName, String testMethodName, String status) {
         log(testClassName, "<<< FINISHED TEST: " + testMethodName + " - " + status);
         log(testClassName, "");
+        EventLog.testEnd(testClassName, testMethodName, status);
     }
 
     public static void logApiCall(String testClassName, String method, String endpoint, int statusCode) {
         log(testClassName, String.format("API CALL: %s %s -> Status: %d", method, endpoint, statusCode));
+        EventLog.apiCall(testClassName, method, endpoint, statusCode, -1);
+        notifyApiCall(testClassName, method, endpoint, statusCode);
+    }
+
+    public static void logApiCall(String testClassName, String method, String endpoint, int statusCode, long durationMs) {
+        log(testClassName, String.format("API CALL: %s %s -> Status: %d (%d ms)", method, endpoint, statusCode, durationMs));
+        EventLog.apiCall(testClassName, method, endpoint, statusCode, durationMs);
+        notifyApiCall(testClassName, method, endpoint, statusCode);
+    }
+
+    public static void addApiCallListener(ApiCallListener listener) {
+        apiCallListeners.add(listener);
+    }
+
+    public static void removeApiCallListener(ApiCallListener listener) {
+        apiCallListeners.remove(listener);
     }
 
+    private static void notifyApiCall(String testClassName, String method, String endpoint, int statusCode) {
+        for (ApiCallListener listener : apiCallListeners) {
+            listener.onApiCall(testClassName, method, endpoint, statusCode);
+        }
+    }
+
+    public interface ApiCallListener {
+        void onApiCall(String testClassName, String method, String endpoint, int statusCode);
+    }
+
+    // Lines logged afterwards (e.g. by listeners reporting after @AfterSuite) are appended to the finished files
     public static void closeAllStreams() {
+        stopWriter();
         lock.lock();
         try {
-            logStreams.values().forEach(stream -> {
+            // Anything queued after the writer stopped still reaches the files
+            drainPendingLines();
+            long dropped = droppedLines.values().stream().mapToLong(AtomicLong::get).sum();
+            // Reported once, not again by the shutdown hook's second close
+            if (dropped > 0 && !closed) {
+                System.out.println("LOG WARNING: " + dropped + " line(s) dropped because the async log queue (log.async.queue.capacity="
+                        + QUEUE_CAPACITY + ") stayed full for log.async.offer.timeout.ms");
+            }
+            closed = true;
+            logStreams.forEach((className, stream) -> {
                 if (stream != System.out) {
+                    AtomicLong classDropped = droppedLines.get(className);
+                    if (classDropped != null && classDropped.get() > 0) {
+                        stream.println("LOG WARNING: " + classDropped.get() + " line(s) dropped, the async log queue was full");
+                    }
                     stream.println();
                     stream.println("=".repeat(80));
                     stream.println("TEST LOG ENDED AT: " + LocalDateTime.now());
@@ -94,5 +191,123 @@ public class LogManager {
         } finally {
             lock.unlock();
         }
+        EventLog.close();
+        RollingLogFile.awaitArchiving(10, TimeUnit.SECONDS);
+    }
+
+    private static void startWriter() {
+        Thread thread = new Thread(() -> {
+            while (writerThread == Thread.currentThread()) {
+                if (!drainPendingLines()) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MS));
+                }
+            }
+        }, "log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    private static void stopWriter() {
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        writerThread = null;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Takes one of the log.async.queue.capacity slots, waiting for the writer while the queue is full;
+    // false when no slot freed up within log.async.offer.timeout.ms
+    private static boolean reserveQueueSlot() {
+        long deadline = 0;
+        while (true) {
+            int pending = pendingCount.get();
+            Thread writer = writerThread;
+            // Without a writer log() drains the line itself, so there is nothing to wait for
+            if (pending < QUEUE_CAPACITY || writer == null) {
+                if (pendingCount.compareAndSet(pending, pending + 1)) {
+                    return true;
+                }
+                continue;
+            }
+            long now = System.nanoTime();
+            if (deadline == 0) {
+                deadline = now + OFFER_TIMEOUT_NANOS;
+            } else if (now - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    // Writes each queued line batch with a single write + flush per stream; returns whether anything was written
+    private static boolean drainPendingLines() {
+        boolean wrote = false;
+        for (Map.Entry<String, Queue<String>> entry : pendingLines.entrySet()) {
+            String batch = drain(entry.getValue(), true);
+            if (batch != null) {
+                writeToFile(entry.getKey(), batch);
+                wrote = true;
+            }
+        }
+        String consoleBatch = drain(pendingConsoleLines, false);
+        if (consoleBatch != null) {
+            System.out.print(consoleBatch);
+            System.out.flush();
+            wrote = true;
+        }
+        return wrote;
+    }
+
+    private static void writeToFile(String testClassName, String text) {
+        if (closed) {
+            appendAfterClose(testClassName, text);
+            return;
+        }
+        PrintStream logStream = getLogStream(testClassName);
+        logStream.print(text);
+        logStream.flush();
+    }
+
+    // Reopening the stream would rewrite the finished file (same name within the same second) and leave
+    // a stream nobody closes, so each late line is appended and the file closed again
+    private static void appendAfterClose(String testClassName, String text) {
+        Path file = logFileOf(testClassName);
+        try {
+            Files.write(file, text.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Failed to append to log file " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Path logFileOf(String testClassName) {
+        return logFiles.computeIfAbsent(testClassName, className -> new File(String.format("%s/%s_%s.log",
+                LOG_DIR, className, LocalDateTime.now().format(DATE_FORMAT))).toPath());
+    }
+
+    // releaseSlots: the queue holds file lines, whose queue slots are freed as they are taken
+    private static String drain(Queue<String> queue, boolean releaseSlots) {
+        String line = queue.poll();
+        if (line == null) {
+            return null;
+        }
+        StringBuilder batch = new StringBuilder();
+        int lines = 0;
+        do {
+            batch.append(line).append(System.lineSeparator());
+            lines++;
+            line = queue.poll();
+        } while (line != null);
+        if (releaseSlots) {
+            pendingCount.addAndGet(-lines);
+        }
+        return batch.toString();
     }
-}
\ No newline at end of file
+}
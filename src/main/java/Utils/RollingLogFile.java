@@ -0,0 +1,191 @@
+package Utils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Log file that rolls over once it passes log.rotate.max.bytes or has been open for
+// log.rotate.interval.ms. Rolling only renames the file and opens a fresh one; gzipping the
+// rolled segment and trimming the log directory to log.total.max.bytes (oldest first) happen
+// on a background thread so the logging thread never waits for compression.
+// Rolls are checked on flush(), i.e. between lines in sync mode and between batches in async mode.
+final class RollingLogFile extends OutputStream {
+    private static final long MAX_BYTES = ConfigReaderWriter.getLongPropKey("log.rotate.max.bytes", 10L * 1024 * 1024);
+    private static final long MAX_AGE_NANOS = TimeUnit.MILLISECONDS.toNanos(ConfigReaderWriter.getLongPropKey("log.rotate.interval.ms", 0));
+    private static final long TOTAL_MAX_BYTES = ConfigReaderWriter.getLongPropKey("log.total.max.bytes", 512L * 1024 * 1024);
+    private static final boolean COMPRESS = ConfigReaderWriter.getBooleanPropKey("log.rotate.compress", true);
+
+    // Files currently being written; never compressed or evicted
+    private static final Set<Path> activeFiles = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService archiver = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "log-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final String baseName;
+    private OutputStream out;
+    private long bytesWritten;
+    private long openedAtNanos;
+    private int segment;
+
+    RollingLogFile(File file) throws IOException {
+        this.file = file.toPath().toAbsolutePath();
+        String name = this.file.getFileName().toString();
+        this.baseName = name.endsWith(".log") ? name.substring(0, name.length() - 4) : name;
+        activeFiles.add(this.file);
+        open();
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        out.write(b);
+        bytesWritten++;
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        out.write(bytes, offset, length);
+        bytesWritten += length;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        out.flush();
+        if (shouldRoll()) {
+            roll();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+        activeFiles.remove(file);
+        // Keep the cap honest for the final segments as well
+        archiver.execute(() -> enforceTotalSize(file.getParent()));
+    }
+
+    // Waits for queued compressions so a finished run leaves no half-written .gz files
+    static void awaitArchiving(long timeout, TimeUnit unit) {
+        try {
+            archiver.submit(() -> { }).get(timeout, unit);
+        } catch (Exception e) {
+            // Best effort at shutdown; an unfinished segment stays as plain .log
+        }
+    }
+
+    private boolean shouldRoll() {
+        if (bytesWritten == 0) {
+            return false;
+        }
+        return (MAX_BYTES > 0 && bytesWritten >= MAX_BYTES)
+                || (MAX_AGE_NANOS > 0 && System.nanoTime() - openedAtNanos >= MAX_AGE_NANOS);
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        segment++;
+        Path rolled = file.resolveSibling(baseName + "." + segment + ".log");
+        Files.move(file, rolled, StandardCopyOption.REPLACE_EXISTING);
+        open();
+        String header = "=== CONTINUED FROM " + rolled.getFileName() + (COMPRESS ? ".gz" : "") + " ===" + System.lineSeparator();
+        write(header.getBytes(StandardCharsets.UTF_8));
+
+        archiver.execute(() -> {
+            if (COMPRESS) {
+                compress(rolled);
+            }
+            enforceTotalSize(file.getParent());
+        });
+    }
+
+    // Appends, so a file that already exists (e.g. a log reopened within the same second) is never truncated
+    private void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        bytesWritten = Files.size(file);
+        openedAtNanos = System.nanoTime();
+    }
+
+    private static void compress(Path rolled) {
+        // Already evicted by the size cap
+        if (!Files.exists(rolled)) {
+            return;
+        }
+        Path gzip = rolled.resolveSibling(rolled.getFileName() + ".gz");
+        try (InputStream in = Files.newInputStream(rolled);
+             OutputStream gzipOut = new GZIPOutputStream(Files.newOutputStream(gzip), 64 * 1024)) {
+            in.transferTo(gzipOut);
+        } catch (IOException e) {
+            System.err.println("Failed to compress log segment " + rolled + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(gzip);
+            } catch (IOException ignored) {
+                // The plain segment is kept, so nothing is lost
+            }
+            return;
+        }
+        try {
+            Files.delete(rolled);
+        } catch (IOException e) {
+            System.err.println("Failed to delete compressed log segment " + rolled + ": " + e.getMessage());
+        }
+    }
+
+    // Deletes the oldest inactive log files until the directory fits in log.total.max.bytes
+    private static void enforceTotalSize(Path directory) {
+        if (TOTAL_MAX_BYTES <= 0) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> logs = Files.newDirectoryStream(directory, "*.{log,gz}")) {
+            for (Path log : logs) {
+                files.add(log);
+                total += Files.size(log);
+            }
+            if (total <= TOTAL_MAX_BYTES) {
+                return;
+            }
+            files.sort(Comparator.comparingLong(RollingLogFile::lastModified));
+            for (Path log : files) {
+                if (total <= TOTAL_MAX_BYTES) {
+                    break;
+                }
+                if (activeFiles.contains(log.toAbsolutePath())) {
+                    continue;
+                }
+                long size = Files.size(log);
+                Files.deleteIfExists(log);
+                total -= size;
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to enforce log size cap in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
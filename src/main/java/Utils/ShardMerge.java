@@ -0,0 +1,166 @@
+package Utils;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Combines the outputs of a sharded run (mvn test -Pshard, one target/shards/shard-<n> per shard) into one result:
+//   <out>/shard-summary.txt              totals and failed tests per shard and overall (exit code 1 on failures or a missing shard)
+//   <out>/perf/latency-report.*          one latency report from the merged histograms
+//   <out>/perf/test-durations.properties all shards' durations, for the next run's partition
+//   <out>/logs/shard-<n>/, <out>/events/  every shard's logs and event runs (query with EventQuery --dir <out>/events)
+// Usage: java -cp target/classes Utils.ShardMerge [shards dir, default target/shards] [output dir, default target/merged]
+public final class ShardMerge {
+    private static final String DURATIONS_FILE = "test-durations.properties";
+
+    private ShardMerge() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path shardsDir = Paths.get(args.length > 0 ? args[0] : "target/shards");
+        Path outputDir = Paths.get(args.length > 1 ? args[1] : "target/merged");
+        List<Path> shards = listShards(shardsDir);
+        if (shards.isEmpty()) {
+            System.err.println("No shard-* directories in " + shardsDir);
+            System.exit(2);
+        }
+        Files.createDirectories(outputDir);
+
+        List<String> summary = new ArrayList<>();
+        long[] totals = new long[4];
+        boolean complete = true;
+        for (Path shard : shards) {
+            String name = shard.getFileName().toString();
+            Path results = shard.resolve("surefire-reports").resolve("testng-results.xml");
+            if (!Files.exists(results)) {
+                summary.add(name + ": no testng-results.xml, the shard did not finish");
+                complete = false;
+                continue;
+            }
+            ShardResult result = ShardResult.read(results);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += result.counts[i];
+            }
+            summary.add(String.format("%s: total=%d, passed=%d, failed=%d, skipped=%d", name,
+                    result.counts[0], result.counts[1], result.counts[2], result.counts[3]));
+            result.failedTests.forEach(test -> summary.add("  FAILED " + test));
+
+            copyTree(shard.resolve("logs"), outputDir.resolve("logs").resolve(name));
+            copyTree(shard.resolve("events"), outputDir.resolve("events"));
+        }
+        summary.add(String.format("ALL %d shard(s): total=%d, passed=%d, failed=%d, skipped=%d%s", shards.size(),
+                totals[0], totals[1], totals[2], totals[3], complete ? "" : " (INCOMPLETE)"));
+
+        List<Path> perfDirs = shards.stream().map(shard -> shard.resolve("perf")).collect(Collectors.toList());
+        summary.add(LatencyRecorder.mergeReports(perfDirs, outputDir.resolve("perf")));
+        mergeDurations(perfDirs, outputDir.resolve("perf").resolve(DURATIONS_FILE));
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(outputDir.resolve("shard-summary.txt"), StandardCharsets.UTF_8))) {
+            summary.forEach(writer::println);
+        }
+        summary.forEach(System.out::println);
+        System.exit(complete && totals[2] == 0 ? 0 : 1);
+    }
+
+    private static List<Path> listShards(Path shardsDir) throws IOException {
+        List<Path> shards = new ArrayList<>();
+        if (Files.isDirectory(shardsDir)) {
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(shardsDir, "shard-*")) {
+                entries.forEach(shards::add);
+            }
+        }
+        shards.sort(Comparator.comparing(shard -> shard.getFileName().toString()));
+        return shards;
+    }
+
+    // Each class runs in exactly one shard, so the files only need to be combined
+    private static void mergeDurations(List<Path> perfDirs, Path target) throws IOException {
+        Properties merged = new Properties();
+        for (Path perfDir : perfDirs) {
+            Path file = perfDir.resolve(DURATIONS_FILE);
+            if (Files.exists(file)) {
+                Properties durations = new Properties();
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    durations.load(reader);
+                }
+                merged.putAll(durations);
+            }
+        }
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            merged.store(writer, "Test method durations in ms, merged from all shards by ShardMerge");
+        }
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(source)) {
+            files.forEach(file -> {
+                Path destination = target.resolve(source.relativize(file).toString());
+                try {
+                    if (Files.isDirectory(file)) {
+                        Files.createDirectories(destination);
+                    } else {
+                        Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to copy " + file + " to " + destination, e);
+                }
+            });
+        }
+    }
+
+    private static final class ShardResult {
+        // total, passed, failed, skipped
+        private final long[] counts = new long[4];
+        private final List<String> failedTests = new ArrayList<>();
+
+        private static ShardResult read(Path file) throws IOException {
+            Document document;
+            try {
+                document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+            } catch (ParserConfigurationException | SAXException e) {
+                throw new IOException("Failed to parse " + file, e);
+            }
+            ShardResult result = new ShardResult();
+            Element root = document.getDocumentElement();
+            String[] attributes = {"total", "passed", "failed", "skipped"};
+            for (int i = 0; i < attributes.length; i++) {
+                String value = root.getAttribute(attributes[i]);
+                result.counts[i] = value.isEmpty() ? 0 : Long.parseLong(value);
+            }
+
+            NodeList methods = document.getElementsByTagName("test-method");
+            for (int i = 0; i < methods.getLength(); i++) {
+                Element method = (Element) methods.item(i);
+                if ("FAIL".equals(method.getAttribute("status")) && !"true".equals(method.getAttribute("is-config"))) {
+                    String className = ((Element) method.getParentNode()).getAttribute("name");
+                    result.failedTests.add(className + "." + method.getAttribute("name"));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package Utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+// Generates entity names for bulk scenarios on demand: name(prefix, i) is a pure function of the
+// index and test.data.seed, so any number of names can be streamed without keeping them in memory
+// and a failing index can be reproduced on its own. Indexes cycle through the Kind edge cases.
+public final class TestDataGenerator {
+
+    public enum Kind { ASCII, ACCENTED, CJK, EMOJI, RTL, PUNCTUATION, SINGLE_CHAR, MAX_LENGTH }
+
+    private static final long SEED = ConfigReaderWriter.getLongPropKey("test.data.seed", 20240601L);
+    private static final int MAX_NAME_LENGTH = ConfigReaderWriter.getIntPropKey("test.data.max.name.length", 1024);
+
+    private static final String[] ACCENTED_WORDS = {"Tâche", "Ünïcödé", "Crème", "Año", "Øresund", "Łódź", "Straße"};
+    private static final String[] CJK_WORDS = {"看板", "テスト", "보드", "项目", "リスト", "작업"};
+    private static final String[] EMOJI = {"🚀", "✅", "📌", "🔥", "👩‍💻", "🇪🇬"};
+    private static final String[] RTL_WORDS = {"لوحة", "قائمة", "לוח", "רשימה"};
+    private static final String PUNCTUATION = "#&<>\"'%/?=+;:!@$*()[]{}|\\~";
+    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    private TestDataGenerator() {
+    }
+
+    public static Kind kindOf(long index) {
+        Kind[] kinds = Kind.values();
+        return kinds[(int) Math.floorMod(index, (long) kinds.length)];
+    }
+
+    public static String name(String prefix, long index) {
+        SplittableRandom random = new SplittableRandom(SEED ^ (index * 0x9E3779B97F4A7C15L));
+        switch (kindOf(index)) {
+            case ACCENTED:
+                return prefix + " " + pick(random, ACCENTED_WORDS) + " " + pick(random, ACCENTED_WORDS) + " " + index;
+            case CJK:
+                return pick(random, CJK_WORDS) + " " + prefix + " " + pick(random, CJK_WORDS) + " " + index;
+            case EMOJI:
+                return pick(random, EMOJI) + " " + prefix + " " + index + " " + pick(random, EMOJI);
+            case RTL:
+                return pick(random, RTL_WORDS) + " " + prefix + " " + index + " " + pick(random, RTL_WORDS);
+            case PUNCTUATION:
+                return prefix + " " + index + " " + randomChars(random, PUNCTUATION, 8);
+            case SINGLE_CHAR:
+                return randomChars(random, ALPHANUMERIC, 1);
+            case MAX_LENGTH:
+                String head = prefix + " " + index + " ";
+                return head + randomChars(random, ALPHANUMERIC, Math.max(MAX_NAME_LENGTH - head.length(), 0));
+            default:
+                return String.format("%s %06d %s", prefix, index, randomChars(random, ALPHANUMERIC, 6));
+        }
+    }
+
+    // Lazily yields name(prefix, 0) .. name(prefix, count - 1)
+    public static Iterator<String> names(String prefix, long count) {
+        return new Iterator<String>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return name(prefix, next++);
+            }
+        };
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String randomChars(SplittableRandom random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
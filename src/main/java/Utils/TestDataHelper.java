@@ -1,5 +1,7 @@
 package Utils;
 
+import java.util.Iterator;
+
 public class TestDataHelper {
     public static String getOrganizationName() {
         return ConfigReaderWriter.getPropKey("test.organization.name");
@@ -13,6 +15,28 @@ public class TestDataHelper {
         return ConfigReaderWriter.getPropKey("test.list.name");
     }
 
+    public static int getBulkCount() {
+        return ConfigReaderWriter.getIntPropKey("test.data.bulk.count", 100);
+    }
+
+    // Rows of {kind, name} for a TestNG @DataProvider, generated one at a time as TestNG consumes them
+    public static Iterator<Object[]> bulkNames(String prefix) {
+        Iterator<String> names = TestDataGenerator.names(prefix, getBulkCount());
+        return new Iterator<Object[]>() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return names.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{TestDataGenerator.kindOf(index++), names.next()};
+            }
+        };
+    }
+
     public static String getExpectedUsername() {
         return ConfigReaderWriter.getPropKey("trello.username");
     }
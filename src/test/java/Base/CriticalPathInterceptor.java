@@ -0,0 +1,145 @@
+// CriticalPathInterceptor.java
+package Base;
+
+import Fixtures.RequiresFixtures;
+import Fixtures.SharedFixture;
+import Utils.ConfigReaderWriter;
+import Utils.LogManager;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Orders the suite's test methods critical-path-first. The dependency graph has one node per
+// test method and per shared fixture; edges come from dependsOnMethods and @RequiresFixtures
+// (fixture -> every method of the class, prerequisite fixture -> fixture). Each node is weighted
+// with its duration from the previous run (TestDurationRecorder), or schedule.default.method.ms.
+// Methods are handed to TestNG by descending longest remaining path, which keeps dependencies
+// ahead of their dependents and starts the longest chains first when classes or methods run in parallel.
+public class CriticalPathInterceptor implements IMethodInterceptor {
+    private static final long DEFAULT_METHOD_MS = ConfigReaderWriter.getLongPropKey("schedule.default.method.ms", 1000);
+    private static final long DEFAULT_FIXTURE_MS = ConfigReaderWriter.getLongPropKey("schedule.default.fixture.ms", 1000);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Map<String, Long> durations = TestDurationRecorder.load();
+        Graph graph = new Graph();
+
+        Map<String, String> nodeByQualifiedName = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            String node = nodeOf(instance);
+            graph.addNode(node, durations.getOrDefault(node, DEFAULT_METHOD_MS));
+            nodeByQualifiedName.put(instance.getMethod().getQualifiedName(), node);
+        }
+
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            String node = nodeOf(instance);
+            for (String dependency : method.getMethodsDependedUpon()) {
+                String dependencyNode = nodeByQualifiedName.get(dependency);
+                // Dependencies outside this <test> are resolved by TestNG itself
+                if (dependencyNode != null) {
+                    graph.addEdge(dependencyNode, node);
+                }
+            }
+            Class<?> testClass = method.getRealClass();
+            RequiresFixtures fixtures = testClass.getAnnotation(RequiresFixtures.class);
+            if (fixtures != null) {
+                for (SharedFixture fixture : fixtures.value()) {
+                    graph.addEdge(addFixture(graph, fixture, durations), node);
+                }
+            }
+        }
+
+        Map<String, Long> remaining = graph.longestRemainingPaths();
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        // List.sort is stable, so methods with equal paths keep TestNG's order
+        ordered.sort(Comparator.comparingLong((IMethodInstance instance) -> remaining.get(nodeOf(instance))).reversed());
+
+        List<String> criticalPath = graph.criticalPath(remaining);
+        LogManager.log(TestBase.SUITE_LOG, String.format("SCHEDULE [%s]: %d method(s), critical path ~%d ms: %s",
+                context.getName(), methods.size(), criticalPath.isEmpty() ? 0 : remaining.get(criticalPath.get(0)),
+                String.join(" -> ", criticalPath)));
+        LogManager.log(TestBase.SUITE_LOG, "SCHEDULE ORDER: " + ordered.stream()
+                .map(instance -> nodeOf(instance) + " (" + remaining.get(nodeOf(instance)) + " ms)")
+                .collect(Collectors.joining(", ")));
+        return ordered;
+    }
+
+    private static String nodeOf(IMethodInstance instance) {
+        return TestDurationRecorder.key(instance.getMethod().getRealClass(), instance.getMethod().getMethodName());
+    }
+
+    private static String addFixture(Graph graph, SharedFixture fixture, Map<String, Long> durations) {
+        String node = TestDurationRecorder.key(fixture);
+        if (graph.addNode(node, durations.getOrDefault(node, DEFAULT_FIXTURE_MS))) {
+            for (SharedFixture prerequisite : fixture.getPrerequisites()) {
+                graph.addEdge(addFixture(graph, prerequisite, durations), node);
+            }
+        }
+        return node;
+    }
+
+    private static final class Graph {
+        private final Map<String, Long> weights = new LinkedHashMap<>();
+        private final Map<String, Set<String>> successors = new HashMap<>();
+
+        // Returns whether the node is new
+        private boolean addNode(String node, long weight) {
+            if (weights.containsKey(node)) {
+                return false;
+            }
+            weights.put(node, Math.max(weight, 1));
+            successors.put(node, new LinkedHashSet<>());
+            return true;
+        }
+
+        private void addEdge(String from, String to) {
+            successors.get(from).add(to);
+        }
+
+        // Weight of the node plus the heaviest chain of nodes that can only start after it
+        private Map<String, Long> longestRemainingPaths() {
+            Map<String, Long> remaining = new HashMap<>();
+            for (String node : weights.keySet()) {
+                longestRemainingPath(node, remaining, new HashSet<>());
+            }
+            return remaining;
+        }
+
+        private long longestRemainingPath(String node, Map<String, Long> remaining, Set<String> visiting) {
+            Long known = remaining.get(node);
+            if (known != null) {
+                return known;
+            }
+            // A cycle is reported by TestNG itself; don't recurse forever before it gets the chance
+            if (!visiting.add(node)) {
+                return 0;
+            }
+            long longestSuccessor = 0;
+            for (String successor : successors.get(node)) {
+                longestSuccessor = Math.max(longestSuccessor, longestRemainingPath(successor, remaining, visiting));
+            }
+            visiting.remove(node);
+            long path = weights.get(node) + longestSuccessor;
+            remaining.put(node, path);
+            return path;
+        }
+
+        private List<String> criticalPath(Map<String, Long> remaining) {
+            List<String> path = new ArrayList<>();
+            String node = weights.keySet().stream().max(Comparator.comparingLong(remaining::get)).orElse(null);
+            while (node != null) {
+                path.add(node);
+                node = successors.get(node).stream()
+                        .filter(successor -> !path.contains(successor))
+                        .max(Comparator.comparingLong(remaining::get))
+                        .orElse(null);
+            }
+            return path;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+// DataProviderModeTransformer.java
+package Base;
+
+import Utils.ConfigReaderWriter;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.IDataProviderAnnotation;
+
+import java.lang.reflect.Method;
+
+// Switches every @DataProvider to parallel when test.data.parallel=true, so the same bulk
+// scenarios can run sequentially or concurrently without touching the test classes.
+// Concurrency is bounded by the suite's data-provider-thread-count.
+public class DataProviderModeTransformer implements IAnnotationTransformer {
+    private static final boolean PARALLEL = ConfigReaderWriter.getBooleanPropKey("test.data.parallel", false);
+
+    @Override
+    public void transform(IDataProviderAnnotation annotation, Method method) {
+        if (PARALLEL) {
+            annotation.setParallel(true);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+// HttpClientPool.java
+package Base;
+
+import Utils.ConfigReaderWriter;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Single pooled, keep-alive connection manager shared by every TestBase subclass.
+// REST Assured requires an AbstractHttpClient and mutates its interceptors per request,
+// so each thread gets its own lightweight client on top of the shared pool.
+@SuppressWarnings("deprecation") // REST Assured 5 is still built on the HttpClient 4.x legacy API
+public final class HttpClientPool {
+    private static final int MAX_TOTAL = ConfigReaderWriter.getIntPropKey("http.pool.max.total", 20);
+    private static final int MAX_PER_ROUTE = ConfigReaderWriter.getIntPropKey("http.pool.max.per.route", 10);
+    private static final long KEEP_ALIVE_MS = ConfigReaderWriter.getLongPropKey("http.pool.keepalive.ms", 30000);
+    private static final long IDLE_EVICT_MS = ConfigReaderWriter.getLongPropKey("http.pool.idle.evict.ms", 60000);
+
+    private static final AtomicLong connectionRequests = new AtomicLong();
+    private static final AtomicLong connectionsOpened = new AtomicLong();
+
+    // Phase timestamps of the exchange in flight on each thread (a thread sends one request at a time)
+    private static final ThreadLocal<RequestTiming> timings = ThreadLocal.withInitial(RequestTiming::new);
+
+    private static final PoolingClientConnectionManager connectionManager = createConnectionManager();
+    private static final ThreadLocal<DefaultHttpClient> clients = ThreadLocal.withInitial(HttpClientPool::createHttpClient);
+    private static final ScheduledExecutorService idleEvictor = startIdleEvictor();
+
+    private HttpClientPool() {
+    }
+
+    public static HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .httpClientFactory(clients::get);
+    }
+
+    // REST Assured keeps the body as a live stream until it is read, which holds the pooled
+    // connection leased; buffering it right after the exchange hands the connection back.
+    public static Filter releaseConnectionFilter() {
+        return new OrderedFilter() {
+            @Override
+            public Response filter(FilterableRequestSpecification requestSpec,
+                                   FilterableResponseSpecification responseSpec, FilterContext ctx) {
+                Response response = ctx.next(requestSpec, responseSpec);
+                response.asByteArray();
+                return response;
+            }
+
+            @Override
+            public int getOrder() {
+                return LOWEST_PRECEDENCE - 1;
+            }
+        };
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault()) {
+            @Override
+            public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+                connectionRequests.incrementAndGet();
+                timings.get().start();
+                return super.requestConnection(route, state);
+            }
+
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+                return new DefaultClientConnectionOperator(schemeRegistry) {
+                    @Override
+                    public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                               HttpContext context, HttpParams params) throws IOException {
+                        connectionsOpened.incrementAndGet();
+                        long started = System.nanoTime();
+                        try {
+                            super.openConnection(conn, target, local, context, params);
+                        } finally {
+                            timings.get().connectNanos += System.nanoTime() - started;
+                        }
+                    }
+                };
+            }
+        };
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        return manager;
+    }
+
+    private static DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        client.setKeepAliveStrategy(keepAliveStrategy());
+        // Response interceptors run as soon as the status line and headers arrive
+        client.addResponseInterceptor((response, context) -> timings.get().firstByteNanos = System.nanoTime());
+        return client;
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy() {
+        return (response, context) -> {
+            // Respect a shorter server-advertised Keep-Alive timeout, otherwise use ours
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, KEEP_ALIVE_MS) : KEEP_ALIVE_MS;
+        };
+    }
+
+    private static ScheduledExecutorService startIdleEvictor() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-idle-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(IDLE_EVICT_MS / 2, 1000);
+        executor.scheduleAtFixedRate(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(IDLE_EVICT_MS, TimeUnit.MILLISECONDS);
+        }, period, period, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    public static RequestTiming currentTiming() {
+        return timings.get();
+    }
+
+    public static String getStats() {
+        long requests = connectionRequests.get();
+        long opened = connectionsOpened.get();
+        long reused = Math.max(requests - opened, 0);
+        double hitRate = requests == 0 ? 0.0 : (reused * 100.0) / requests;
+        PoolStats pool = connectionManager.getTotalStats();
+        return String.format("HTTP POOL STATS: requests=%d, hits(reused)=%d, misses(new connections)=%d, hit rate=%.1f%%, " +
+                        "leased=%d, available=%d, pending=%d, max=%d",
+                requests, reused, opened, hitRate,
+                pool.getLeased(), pool.getAvailable(), pool.getPending(), pool.getMax());
+    }
+
+    public static void shutdown() {
+        idleEvictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+
+    public static final class RequestTiming {
+        private long startNanos;
+        private long connectNanos;
+        private long firstByteNanos;
+
+        private void start() {
+            startNanos = System.nanoTime();
+            connectNanos = 0;
+            firstByteNanos = 0;
+        }
+
+        // When the connection was requested from the pool for the latest exchange on this thread
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        // Time spent opening a new connection (TCP + TLS); 0 when a pooled connection was reused
+        public long getConnectNanos() {
+            return connectNanos;
+        }
+
+        public long getTimeToFirstByteNanos() {
+            return firstByteNanos == 0 ? 0 : firstByteNanos - startNanos;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+// ImpactedTestSelector.java
+package Base;
+
+import Utils.ConfigReaderWriter;
+import Utils.LogManager;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// test.select.mode=changed runs only the test methods the differences since the previous run of the
+// suite can affect (see TestImpactIndex):
+//   - methods that are new, or failed or were skipped last time
+//   - every method of a test class whose compiled code changed
+//   - methods that touched a trello.endpoint.* key whose value changed, or one listed in
+//     test.select.endpoints ("boards" or "POST boards" for a server-side change)
+// The whole suite runs when there is no index yet, when shared code (anything that isn't a test class)
+// changed, or when a config key outside test.select.ignore.keys changed. Methods a selected
+// method depends on are always kept. Register it before CriticalPathInterceptor so only selected methods are scheduled.
+public class ImpactedTestSelector implements IMethodInterceptor {
+    private static final String ENDPOINT_PREFIX = "trello.endpoint.";
+    private static final boolean ENABLED = "changed".equalsIgnoreCase(ConfigReaderWriter.getPropKey("test.select.mode", "all"));
+    private static final List<String> IGNORED_KEY_PREFIXES = Arrays.stream(ConfigReaderWriter.getPropKey("test.select.ignore.keys", "").split(","))
+            .map(String::trim)
+            .filter(prefix -> !prefix.isEmpty())
+            .collect(Collectors.toList());
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ENABLED || methods.isEmpty()) {
+            return methods;
+        }
+        String suiteName = context.getSuite().getName();
+        Properties index = TestImpactIndex.load(suiteName);
+        String reasonToRunAll = reasonToRunAll(index);
+        if (reasonToRunAll != null) {
+            LogManager.log(TestBase.SUITE_LOG, String.format("SELECTION [%s]: all %d method(s), %s",
+                    context.getName(), methods.size(), reasonToRunAll));
+            return methods;
+        }
+
+        Set<String> changedEndpoints = changedEndpoints(index);
+        Map<String, String> reasons = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            String reason = reasonToRun(instance.getMethod(), index, changedEndpoints);
+            if (reason != null) {
+                reasons.put(instance.getMethod().getQualifiedName(), TestImpactIndex.key(instance.getMethod()) + " (" + reason + ")");
+            }
+        }
+        keepDependencies(methods, reasons);
+
+        List<IMethodInstance> selected = methods.stream()
+                .filter(instance -> reasons.containsKey(instance.getMethod().getQualifiedName()))
+                .collect(Collectors.toList());
+        LogManager.log(TestBase.SUITE_LOG, String.format("SELECTION [%s]: %d of %d method(s)%s%s",
+                context.getName(), selected.size(), methods.size(),
+                changedEndpoints.isEmpty() ? "" : ", changed endpoints " + changedEndpoints,
+                reasons.isEmpty() ? "" : ": " + String.join(", ", reasons.values())));
+        return selected;
+    }
+
+    private static String reasonToRunAll(Properties index) {
+        if (index.isEmpty()) {
+            return "no impact index from an earlier run";
+        }
+        Map<String, String> current = TestImpactIndex.currentFingerprints();
+        if (!current.get(TestImpactIndex.SUPPORT_FINGERPRINT).equals(index.getProperty(TestImpactIndex.SUPPORT_FINGERPRINT))) {
+            return "shared code changed";
+        }
+        List<String> changedKeys = changedConfigKeys(index, current).stream()
+                .filter(key -> !key.startsWith(ENDPOINT_PREFIX))
+                .filter(key -> IGNORED_KEY_PREFIXES.stream().noneMatch(key::startsWith))
+                .collect(Collectors.toList());
+        return changedKeys.isEmpty() ? null : "config changed: " + String.join(", ", changedKeys);
+    }
+
+    private static String reasonToRun(ITestNGMethod method, Properties index, Set<String> changedEndpoints) {
+        String key = TestImpactIndex.key(method);
+        String testClass = method.getRealClass().getSimpleName();
+        String recorded = index.getProperty(TestImpactIndex.METHOD_PREFIX + key);
+        if (recorded == null) {
+            return "new";
+        }
+        if (index.containsKey(TestImpactIndex.FAILED_PREFIX + key)) {
+            return "failed last run";
+        }
+        String fingerprint = TestImpactIndex.CLASS_FINGERPRINT_PREFIX + testClass;
+        if (!Objects.equals(TestImpactIndex.currentFingerprints().get(fingerprint), index.getProperty(fingerprint))) {
+            return "class changed";
+        }
+        Set<String> calls = new TreeSet<>(TestImpactIndex.split(recorded));
+        calls.addAll(TestImpactIndex.split(index.getProperty(TestImpactIndex.CLASS_PREFIX + testClass)));
+        List<String> affected = calls.stream()
+                .filter(call -> changedEndpoints.contains(call) || changedEndpoints.contains(call.substring(call.indexOf(' ') + 1)))
+                .collect(Collectors.toList());
+        return affected.isEmpty() ? null : "touches " + String.join(", ", affected);
+    }
+
+    // trello.endpoint.* keys whose value changed since the index was written, plus the ones named in
+    // test.select.endpoints; entries are either a key or "METHOD key"
+    private static Set<String> changedEndpoints(Properties index) {
+        Set<String> changed = changedConfigKeys(index, TestImpactIndex.currentFingerprints()).stream()
+                .filter(key -> key.startsWith(ENDPOINT_PREFIX))
+                .collect(Collectors.toCollection(TreeSet::new));
+        for (String entry : ConfigReaderWriter.getPropKey("test.select.endpoints", "").split(",")) {
+            String[] parts = entry.trim().split("\\s+", 2);
+            if (parts[0].isEmpty()) {
+                continue;
+            }
+            String endpoint = parts[parts.length - 1];
+            endpoint = endpoint.startsWith(ENDPOINT_PREFIX) ? endpoint : ENDPOINT_PREFIX + endpoint;
+            changed.add(parts.length == 2 ? parts[0].toUpperCase() + " " + endpoint : endpoint);
+        }
+        return changed;
+    }
+
+    private static List<String> changedConfigKeys(Properties index, Map<String, String> current) {
+        Set<String> keys = new TreeSet<>();
+        current.keySet().stream().filter(name -> name.startsWith(TestImpactIndex.CONFIG_FINGERPRINT_PREFIX)).forEach(keys::add);
+        index.stringPropertyNames().stream().filter(name -> name.startsWith(TestImpactIndex.CONFIG_FINGERPRINT_PREFIX)).forEach(keys::add);
+        return keys.stream()
+                .filter(name -> !Objects.equals(current.get(name), index.getProperty(name)))
+                .map(name -> name.substring(TestImpactIndex.CONFIG_FINGERPRINT_PREFIX.length()))
+                .collect(Collectors.toList());
+    }
+
+    // Adds every method a selected method depends on, directly or transitively
+    private static void keepDependencies(List<IMethodInstance> methods, Map<String, String> reasons) {
+        Map<String, ITestNGMethod> byQualifiedName = new HashMap<>();
+        methods.forEach(instance -> byQualifiedName.put(instance.getMethod().getQualifiedName(), instance.getMethod()));
+
+        Deque<String> pending = new ArrayDeque<>(reasons.keySet());
+        while (!pending.isEmpty()) {
+            ITestNGMethod method = byQualifiedName.get(pending.pop());
+            for (String dependency : method.getMethodsDependedUpon()) {
+                ITestNGMethod dependencyMethod = byQualifiedName.get(dependency);
+                if (dependencyMethod != null && !reasons.containsKey(dependency)) {
+                    reasons.put(dependency, TestImpactIndex.key(dependencyMethod) + " (needed by " + TestImpactIndex.key(method) + ")");
+                    pending.push(dependency);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+// ShardPartitioner.java
+package Base;
+
+import Utils.ConfigReaderWriter;
+import Utils.LogManager;
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Runs one shard of the suite: with test.shard.count > 1, the suite's test classes are split into
+// test.shard.count bins of about equal duration and only bin test.shard.index is kept.
+// Class weights are the method durations in test.shard.durations (schedule.default.method.ms per method
+// without history). Classes are placed heaviest first into the lightest bin, ties broken by name, so every
+// shard computes the same partition as long as all shards read the same durations file.
+// Whole classes stay together so each shard creates its own shared fixtures once.
+public class ShardPartitioner implements IAlterSuiteListener {
+    private static final int SHARD_INDEX = ConfigReaderWriter.getIntPropKey("test.shard.index", 0);
+    private static final int SHARD_COUNT = ConfigReaderWriter.getIntPropKey("test.shard.count", 1);
+    private static final long DEFAULT_METHOD_MS = ConfigReaderWriter.getLongPropKey("schedule.default.method.ms", 1000);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (SHARD_COUNT <= 1) {
+            return;
+        }
+        if (SHARD_INDEX < 0 || SHARD_INDEX >= SHARD_COUNT) {
+            throw new IllegalArgumentException("test.shard.index must be between 0 and " + (SHARD_COUNT - 1) + ", was " + SHARD_INDEX);
+        }
+        Map<String, Long> durations = loadDurations();
+        for (XmlSuite suite : suites) {
+            partition(suite, durations);
+        }
+    }
+
+    private static void partition(XmlSuite suite, Map<String, Long> durations) {
+        Map<String, Long> weights = new TreeMap<>();
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                weights.putIfAbsent(xmlClass.getName(), weightOf(xmlClass, durations));
+            }
+        }
+
+        List<String> heaviestFirst = new ArrayList<>(weights.keySet());
+        heaviestFirst.sort(Comparator.comparingLong((String className) -> weights.get(className)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        long[] binWeights = new long[SHARD_COUNT];
+        Map<String, Integer> binOf = new HashMap<>();
+        for (String className : heaviestFirst) {
+            int lightest = 0;
+            for (int bin = 1; bin < SHARD_COUNT; bin++) {
+                if (binWeights[bin] < binWeights[lightest]) {
+                    lightest = bin;
+                }
+            }
+            binOf.put(className, lightest);
+            binWeights[lightest] += weights.get(className);
+        }
+
+        for (XmlTest test : suite.getTests()) {
+            test.getXmlClasses().removeIf(xmlClass -> binOf.get(xmlClass.getName()) != SHARD_INDEX);
+        }
+        // Drop <test> elements this shard has no classes for
+        suite.getTests().removeIf(test -> test.getXmlClasses().isEmpty() && test.getXmlPackages().isEmpty());
+
+        List<String> kept = heaviestFirst.stream()
+                .filter(className -> binOf.get(className) == SHARD_INDEX)
+                .map(className -> className.substring(className.lastIndexOf('.') + 1) + " (~" + weights.get(className) + " ms)")
+                .collect(Collectors.toList());
+        LogManager.log(TestBase.SUITE_LOG, String.format("SHARD %d/%d [%s]: %d of %d class(es), ~%d ms of ~%d ms: %s",
+                SHARD_INDEX + 1, SHARD_COUNT, suite.getName(), kept.size(), weights.size(),
+                binWeights[SHARD_INDEX], Arrays.stream(binWeights).sum(), kept.isEmpty() ? "nothing to run" : String.join(", ", kept)));
+    }
+
+    // Recorded durations of the class's methods, or the default for methods without history
+    private static long weightOf(XmlClass xmlClass, Map<String, Long> durations) {
+        Class<?> testClass = xmlClass.getSupportClass();
+        long weight = 0;
+        for (Method method : testClass.getMethods()) {
+            if (method.isAnnotationPresent(Test.class)) {
+                weight += durations.getOrDefault(TestDurationRecorder.key(testClass, method.getName()), DEFAULT_METHOD_MS);
+            }
+        }
+        return Math.max(weight, 1);
+    }
+
+    private static Map<String, Long> loadDurations() {
+        return TestDurationRecorder.load(Paths.get(ConfigReaderWriter.getPropKey("test.shard.durations",
+                TestDurationRecorder.durationsFile().toString())));
+    }
+}
@@ -1,40 +1,77 @@
 // TestBase.java
 package Base;
 
+import Filters.BodyLoggingFilter;
+import Filters.CassetteFilter;
+import Filters.CircuitBreakerFilter;
+import Filters.RateLimitFilter;
+import Filters.ResponseCacheFilter;
+import Filters.TimingFilter;
+import Fixtures.FixtureManager;
+import Fixtures.ResourceRegistry;
+import Models.Member;
+import Models.TrelloJson;
+import Stub.TrelloStubServer;
 import Utils.ConfigReaderWriter;
+import Utils.Endpoints;
+import Utils.LatencyRecorder;
 import Utils.LogManager;
 import Utils.TestDataHelper;
-import io.restassured.RestAssured;
+import Utils.VirtualThreads;
 import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.config.HttpClientConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.Filter;
-import io.restassured.filter.log.LogDetail;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
-import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.testng.ITestResult;
+import org.testng.SkipException;
 import org.testng.annotations.*;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import static io.restassured.RestAssured.*;
 import static org.testng.Assert.assertEquals;
 
 public abstract class TestBase {
 
-    // REST Assured configuration
-    protected static RestAssuredConfig restAssuredConfig;
+    // REST Assured configuration (per instance so parallel classes never share it)
+    protected RestAssuredConfig restAssuredConfig;
     protected RequestSpecification requestSpecification;
+    protected String baseUri;
     protected String testClassName;
 
-    // Timeout configuration
-    private static final int HTTP_TIMEOUT_MS = 30000;
+    // Timeouts per phase: opening the TCP/TLS connection, and waiting for response data once connected
+    private static final int CONNECT_TIMEOUT_MS = ConfigReaderWriter.getIntPropKey("http.timeout.connect.ms", 5000);
+    private static final int READ_TIMEOUT_MS = ConfigReaderWriter.getIntPropKey("http.timeout.read.ms", 30000);
+
+    // Opt-in cache for repeated GETs within a run (see ResponseCacheFilter)
+    private static final boolean HTTP_CACHE_ENABLED = ConfigReaderWriter.getBooleanPropKey("http.cache.enabled", false);
+
+    // Member identity is verified once per suite (re-checked after trello.identity.ttl.ms when > 0)
+    private static final long IDENTITY_TTL_MS = ConfigReaderWriter.getLongPropKey("trello.identity.ttl.ms", 0);
+    private static final ReentrantLock identityLock = new ReentrantLock();
+    private static volatile String verifiedUsername;
+    private static volatile long verifiedAtNanos;
+
+    // Log file for suite-wide events that don't belong to a single test class
+    protected static final String SUITE_LOG = "TestSuite";
+
+    @BeforeSuite(alwaysRun = true)
+    public void setupSuite() {
+        Endpoints.validate();
+    }
 
     @BeforeClass
     public void setupTestClass() {
@@ -43,7 +80,13 @@ public abstract class TestBase {
 
         configureRestAssured();
         configureRequestSpecification();
-        verifyUser();
+        try {
+            verifyUser();
+        } catch (SkipException e) {
+            // The API is unreachable (see CircuitBreakerFilter); TestNG skips every test of the class
+            LogManager.log(testClassName, "=== SKIPPING TEST CLASS: " + e.getMessage() + " ===");
+            throw e;
+        }
 
         LogManager.log(testClassName, "=== TEST CLASS SETUP COMPLETED ===");
     }
@@ -51,6 +94,7 @@ public abstract class TestBase {
     @BeforeMethod
     public void beforeMethod(Method method) {
         LogManager.logTestStart(testClassName, method.getName());
+        BodyLoggingFilter.startCapture();
     }
 
     @AfterMethod
@@ -58,8 +102,13 @@ public abstract class TestBase {
         String status = result.isSuccess() ? "PASSED" : "FAILED";
         LogManager.logTestEnd(testClassName, method.getName(), status);
 
+        String capturedExchanges = BodyLoggingFilter.stopCapture();
         if (!result.isSuccess()) {
             LogManager.log(testClassName, "ERROR: " + result.getThrowable().getMessage());
+            if (capturedExchanges != null) {
+                LogManager.log(testClassName, "CAPTURED EXCHANGES FOR FAILED TEST " + method.getName() + ":"
+                        + System.lineSeparator() + capturedExchanges);
+            }
         }
     }
 
@@ -68,69 +117,210 @@ public abstract class TestBase {
         LogManager.log(testClassName, "=== TEARING DOWN TEST CLASS: " + testClassName + " ===");
     }
 
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        FixtureManager.tearDown();
+        ResourceRegistry.cleanUp(SUITE_LOG);
+        LogManager.log(SUITE_LOG, HttpClientPool.getStats());
+        LogManager.log(SUITE_LOG, RateLimitFilter.getStats());
+        LogManager.log(SUITE_LOG, CircuitBreakerFilter.getStats());
+        if (HTTP_CACHE_ENABLED) {
+            LogManager.log(SUITE_LOG, ResponseCacheFilter.getStats());
+        }
+        writeLatencyReport();
+        if (CassetteFilter.isEnabled()) {
+            finishCassettes();
+        }
+        HttpClientPool.shutdown();
+        TrelloStubServer.stop();
+        LogManager.closeAllStreams();
+    }
+
+    private static void writeLatencyReport() {
+        Path reportDir = Paths.get(ConfigReaderWriter.getPropKey("perf.report.dir", "target/perf"));
+        try {
+            LogManager.log(SUITE_LOG, LatencyRecorder.writeReports(reportDir));
+        } catch (IOException e) {
+            LogManager.log(SUITE_LOG, "Failed to write latency report to " + reportDir + ": " + e.getMessage());
+        }
+    }
+
+    private static void finishCassettes() {
+        try {
+            LogManager.log(SUITE_LOG, CassetteFilter.finish());
+        } catch (IOException e) {
+            LogManager.log(SUITE_LOG, "Failed to write cassettes: " + e.getMessage());
+        }
+    }
+
     private void configureRestAssured() {
-        // Set base URI from config
-        String baseUri = ConfigReaderWriter.getPropKey("trello.api.base.url");
-        RestAssured.baseURI = baseUri;
+        // Base URI goes on the request specification, not the global RestAssured.baseURI,
+        // so parallel test classes don't race on shared static state
+        // trello.api.target=stub points the suite at the in-process Trello stand-in instead of the live API
+        baseUri = "stub".equalsIgnoreCase(ConfigReaderWriter.getPropKey("trello.api.target", "live"))
+                ? TrelloStubServer.start().getBaseUrl()
+                : ConfigReaderWriter.getPropKey("trello.api.base.url");
         LogManager.log(testClassName, "Configured base URI: " + baseUri);
 
-        restAssuredConfig = config()
-                .httpClient(HttpClientConfig.httpClientConfig()
-                        .setParam("http.connection.timeout", HTTP_TIMEOUT_MS)
-                        .setParam("http.socket.timeout", HTTP_TIMEOUT_MS));
+        restAssuredConfig = buildRestAssuredConfig();
 
-        LogManager.log(testClassName, "Configured HTTP timeouts: " + HTTP_TIMEOUT_MS + "ms");
+        LogManager.log(testClassName, "Configured pooled HTTP client with timeouts: connect=" + CONNECT_TIMEOUT_MS
+                + "ms, read=" + READ_TIMEOUT_MS + "ms");
     }
 
     private void configureRequestSpecification() {
+        requestSpecification = buildRequestSpecification(baseUri, restAssuredConfig, testClassName);
+        LogManager.log(testClassName, "Request specification configured successfully");
+    }
+
+    // Public and static so benchmarks can measure exactly what every test class builds
+    public static RestAssuredConfig buildRestAssuredConfig() {
+        return config()
+                .httpClient(HttpClientPool.httpClientConfig()
+                        .setParam("http.connection.timeout", CONNECT_TIMEOUT_MS)
+                        .setParam("http.socket.timeout", READ_TIMEOUT_MS));
+    }
+
+    public static RequestSpecification buildRequestSpecification(String baseUri, RestAssuredConfig config, String testClassName) {
         // Get API key and token from config
         String apiKey = ConfigReaderWriter.getPropKey("trello.api.key");
         String apiToken = ConfigReaderWriter.getPropKey("trello.api.token");
 
-        requestSpecification = new RequestSpecBuilder()
-                .setConfig(restAssuredConfig)
+        return new RequestSpecBuilder()
+                .setConfig(config)
+                .setBaseUri(baseUri)
                 .setContentType(ContentType.JSON)
                 .addHeader("Accept", "application/json")
                 .addQueryParam("key", apiKey)
                 .addQueryParam("token", apiToken)
-                .addFilters(getDefaultFilters())
+                .addFilters(getDefaultFilters(testClassName))
                 .build();
-
-        LogManager.log(testClassName, "Request specification configured successfully");
     }
 
-    private List<Filter> getDefaultFilters() {
-        return Arrays.asList(
-                new RequestLoggingFilter(LogDetail.ALL, LogManager.getLogStream(testClassName)),
-                new ResponseLoggingFilter(LogDetail.ALL, LogManager.getLogStream(testClassName))
-        );
+    private static List<Filter> getDefaultFilters(String testClassName) {
+        List<Filter> filters = new ArrayList<>(Arrays.asList(
+                new BodyLoggingFilter(testClassName),
+                HttpClientPool.releaseConnectionFilter(),
+                new CircuitBreakerFilter(),
+                new TimingFilter(),
+                new RateLimitFilter()
+        ));
+        if (HTTP_CACHE_ENABLED) {
+            filters.add(new ResponseCacheFilter());
+        }
+        if (CassetteFilter.isEnabled()) {
+            filters.add(new CassetteFilter(testClassName));
+        }
+        return filters;
     }
 
     private void verifyUser() {
-        LogManager.log(testClassName, "Starting user verification...");
+        if (isIdentityVerified()) {
+            LogManager.log(testClassName, "User already verified for this suite: " + verifiedUsername);
+            TestImpactIndex.recordCachedCall("GET", Endpoints.members().path());
+            return;
+        }
+
+        // Only one class performs the round-trip; the others wait and reuse its result
+        identityLock.lock();
+        try {
+            if (isIdentityVerified()) {
+                LogManager.log(testClassName, "User already verified for this suite: " + verifiedUsername);
+                TestImpactIndex.recordCachedCall("GET", Endpoints.members().path());
+                return;
+            }
+
+            LogManager.log(testClassName, "Starting user verification...");
 
-        Response response = given()
-                .spec(requestSpecification)
-                .when()
-                .get(getEndpoint("trello.endpoint.members"));
+            Response response = CassetteFilter.suiteScoped(() -> given()
+                    .spec(requestSpecification)
+                    .when()
+                    .get(Endpoints.members().path()));
 
-        response.then().statusCode(200);
-        LogManager.logApiCall(testClassName, "GET", getEndpoint("trello.endpoint.members"), response.getStatusCode());
+            response.then().statusCode(200);
+            LogManager.logApiCall(testClassName, "GET", Endpoints.members().path(), response.getStatusCode(),
+                    TimingFilter.lastDurationMillis());
 
-        JsonPath path = response.jsonPath();
-        String username = path.getString("username");
-        assertEquals(username, TestDataHelper.getExpectedUsername(), "Username verification failed");
+            String username = TrelloJson.read(response, Member.class).getUsername();
+            assertEquals(username, TestDataHelper.getExpectedUsername(), "Username verification failed");
 
-        LogManager.log(testClassName, "User verification successful: " + username);
+            verifiedAtNanos = System.nanoTime();
+            verifiedUsername = username;
+            LogManager.log(testClassName, "User verification successful: " + username);
+        } finally {
+            identityLock.unlock();
+        }
     }
 
-    // Helper method to get API endpoints from config
-    protected String getEndpoint(String endpointKey) {
-        return ConfigReaderWriter.getPropKey(endpointKey);
+    private static boolean isIdentityVerified() {
+        if (verifiedUsername == null) {
+            return false;
+        }
+        return IDENTITY_TTL_MS <= 0 || System.nanoTime() - verifiedAtNanos < IDENTITY_TTL_MS * 1_000_000L;
+    }
+
+    // Runs independent API calls concurrently (on virtual threads when the JDK has them) and returns
+    // their responses in the order given. Each call is logged to this class's log from the thread that made it.
+    protected List<Response> fanOut(ApiCall... calls) {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(testClassName + "-fan-out");
+        try {
+            List<Future<Response>> futures = new ArrayList<>(calls.length);
+            for (ApiCall call : calls) {
+                futures.add(executor.submit(TestImpactIndex.withCurrentScope(BodyLoggingFilter.withCurrentCapture(() -> {
+                    Response response = call.request.get();
+                    logApiCall(call.method, call.endpoint, response);
+                    return response;
+                }))));
+            }
+
+            List<Response> responses = new ArrayList<>(calls.length);
+            for (Future<Response> future : futures) {
+                responses.add(awaitResponse(future));
+            }
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Response awaitResponse(Future<Response> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for API call", e);
+        } catch (ExecutionException e) {
+            // Surface assertion failures and REST Assured exceptions as if the call had run inline
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // A request for fanOut(), with the method and endpoint used for its log line
+    protected static final class ApiCall {
+        private final String method;
+        private final String endpoint;
+        private final Supplier<Response> request;
+
+        private ApiCall(String method, String endpoint, Supplier<Response> request) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.request = request;
+        }
+
+        public static ApiCall of(String method, String endpoint, Supplier<Response> request) {
+            return new ApiCall(method, endpoint, request);
+        }
     }
 
     // Helper method for logging API calls in test methods
     protected void logApiCall(String method, String endpoint, Response response) {
-        LogManager.logApiCall(testClassName, method, endpoint, response.getStatusCode());
+        LogManager.logApiCall(testClassName, method, endpoint, response.getStatusCode(), TimingFilter.lastDurationMillis());
     }
 }
@@ -0,0 +1,110 @@
+// TestDurationRecorder.java
+package Base;
+
+import Fixtures.SharedFixture;
+import Utils.ConfigReaderWriter;
+import Utils.LogManager;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Records how long each test method took (all invocations of a data-driven method added up) and
+// how long each shared fixture took to create, and merges the numbers into test-durations.properties under perf.report.dir at suite end.
+// The scheduler reads the file on the next run to estimate the critical path.
+public class TestDurationRecorder implements ITestListener, ISuiteListener {
+    private static final Map<String, AtomicLong> durations = new ConcurrentHashMap<>();
+
+    public static Path durationsFile() {
+        return Paths.get(ConfigReaderWriter.getPropKey("perf.report.dir", "target/perf"), "test-durations.properties");
+    }
+
+    public static String key(Class<?> testClass, String methodName) {
+        return testClass.getSimpleName() + "." + methodName;
+    }
+
+    public static String key(SharedFixture fixture) {
+        return "fixture:" + fixture.name().toLowerCase();
+    }
+
+    // Creation time of a shared fixture, which the scheduler treats as a node of its own
+    public static void recordFixture(SharedFixture fixture, long millis) {
+        durations.computeIfAbsent(key(fixture), key -> new AtomicLong()).addAndGet(Math.max(millis, 0));
+    }
+
+    // Durations of earlier runs in milliseconds, keyed by Class.method; empty when there are none
+    public static Map<String, Long> load() {
+        return load(durationsFile());
+    }
+
+    public static Map<String, Long> load(Path file) {
+        Map<String, Long> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(file)) {
+            return loaded;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            return loaded;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                loaded.put(name, Long.parseLong(properties.getProperty(name).trim()));
+            } catch (NumberFormatException ignored) {
+                // Skip hand-edited or corrupt entries
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (durations.isEmpty()) {
+            return;
+        }
+        // Keep entries for methods that didn't run this time (other suites, filtered runs)
+        Properties properties = new Properties();
+        load().forEach((name, millis) -> properties.setProperty(name, String.valueOf(millis)));
+        durations.forEach((name, millis) -> properties.setProperty(name, String.valueOf(millis.get())));
+
+        Path file = durationsFile();
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Test method durations in ms, written by TestDurationRecorder");
+            }
+        } catch (IOException e) {
+            LogManager.log(TestBase.SUITE_LOG, "Failed to write test durations to " + file + ": " + e.getMessage());
+        }
+        durations.clear();
+    }
+
+    private static void record(ITestResult result) {
+        String name = key(result.getMethod().getRealClass(), result.getMethod().getMethodName());
+        durations.computeIfAbsent(name, key -> new AtomicLong())
+                .addAndGet(Math.max(result.getEndMillis() - result.getStartMillis(), 0));
+    }
+}
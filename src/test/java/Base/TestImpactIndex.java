@@ -0,0 +1,305 @@
+// TestImpactIndex.java
+package Base;
+
+import Utils.ConfigReaderWriter;
+import Utils.Endpoints;
+import Utils.LogManager;
+import org.testng.IConfigurationListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Records which trello.endpoint.* keys (and HTTP methods) each test method touched, taken from the
+// API calls it logged, and keeps them in test-impact-<suite>.properties under perf.report.dir along with
+// fingerprints of the config values, of each test class and of all shared code. Calls made from a class's
+// @BeforeClass/@AfterClass/@BeforeMethod/@AfterMethod count for every method of that class. Results the suite
+// fetches once and caches (identity check, shared fixtures) are recorded for every class that uses them, see recordCachedCall.
+// ImpactedTestSelector compares the fingerprints on the next run to pick the tests a change can affect.
+public class TestImpactIndex implements ITestListener, IConfigurationListener, ISuiteListener {
+    static final String METHOD_PREFIX = "method.";
+    static final String CLASS_PREFIX = "class.";
+    static final String FAILED_PREFIX = "failed.";
+    static final String CONFIG_FINGERPRINT_PREFIX = "fingerprint.config.";
+    static final String CLASS_FINGERPRINT_PREFIX = "fingerprint.class.";
+    static final String SUPPORT_FINGERPRINT = "fingerprint.support";
+
+    // Test method (Class.method) or test class (Class) whose code is running on the current thread
+    private static final ThreadLocal<String> currentScope = new ThreadLocal<>();
+    private static final Map<String, Set<String>> touched = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> outcomes = new ConcurrentHashMap<>();
+    private static final LogManager.ApiCallListener apiCallListener = TestImpactIndex::recordCall;
+    private static volatile Map<String, String> fingerprints;
+
+    public static Path indexFile(String suiteName) {
+        String fileName = "test-impact-" + suiteName.replaceAll("[^A-Za-z0-9._-]+", "-") + ".properties";
+        return Paths.get(ConfigReaderWriter.getPropKey("perf.report.dir", "target/perf"), fileName);
+    }
+
+    // The index written by the previous run of the suite; empty when there is none
+    public static Properties load(String suiteName) {
+        Properties properties = new Properties();
+        Path file = indexFile(suiteName);
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                return new Properties();
+            }
+        }
+        return properties;
+    }
+
+    // Runs a task on another thread with the caller's test scope, so its API calls count for the caller's test
+    public static <T> Callable<T> withCurrentScope(Callable<T> task) {
+        String scope = currentScope.get();
+        return () -> {
+            String previous = currentScope.get();
+            currentScope.set(scope);
+            try {
+                return task.call();
+            } finally {
+                currentScope.set(previous);
+            }
+        };
+    }
+
+    // Records an API call whose result the caller got from a suite-wide cache instead of the network, so the
+    // current test or class depends on the endpoint as much as whichever class happened to make the real call
+    public static void recordCachedCall(String method, String endpoint) {
+        record(method, endpoint);
+    }
+
+    // Fingerprints of the code and configuration this JVM runs with; computed once, they can't change mid-run
+    static Map<String, String> currentFingerprints() {
+        if (fingerprints == null) {
+            synchronized (TestImpactIndex.class) {
+                if (fingerprints == null) {
+                    fingerprints = computeFingerprints();
+                }
+            }
+        }
+        return fingerprints;
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        LogManager.addApiCallListener(apiCallListener);
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        currentScope.set(key(result.getMethod()));
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finish(result, true);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finish(result, false);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finish(result, false);
+    }
+
+    @Override
+    public void beforeConfiguration(ITestResult result) {
+        ITestNGMethod method = result.getMethod();
+        if (method.isBeforeClassConfiguration() || method.isAfterClassConfiguration()
+                || method.isBeforeMethodConfiguration() || method.isAfterMethodConfiguration()) {
+            // getRealClass() is the declaring class, which is TestBase for the shared setup
+            currentScope.set(result.getTestClass().getRealClass().getSimpleName());
+        } else {
+            // Suite-level setup and cleanup belong to no test in particular
+            currentScope.remove();
+        }
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult result) {
+        currentScope.remove();
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        currentScope.remove();
+    }
+
+    @Override
+    public void onConfigurationSkip(ITestResult result) {
+        currentScope.remove();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        LogManager.removeApiCallListener(apiCallListener);
+        if (outcomes.isEmpty()) {
+            return;
+        }
+
+        // Methods that didn't run this time keep their entries; stale fingerprints are replaced wholesale
+        Properties properties = load(suite.getName());
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith("fingerprint."))
+                .forEach(properties::remove);
+        currentFingerprints().forEach(properties::setProperty);
+        outcomes.forEach((method, passed) -> {
+            properties.setProperty(METHOD_PREFIX + method, join(touched.get(method)));
+            if (passed) {
+                properties.remove(FAILED_PREFIX + method);
+            } else {
+                properties.setProperty(FAILED_PREFIX + method, "true");
+            }
+        });
+        outcomes.keySet().stream()
+                .map(method -> method.substring(0, method.indexOf('.')))
+                .distinct()
+                .forEach(testClass -> properties.setProperty(CLASS_PREFIX + testClass, join(touched.get(testClass))));
+
+        Path file = indexFile(suite.getName());
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Endpoints touched per test and fingerprints, written by TestImpactIndex");
+            }
+        } catch (IOException e) {
+            LogManager.log(TestBase.SUITE_LOG, "Failed to write test impact index to " + file + ": " + e.getMessage());
+        }
+        touched.clear();
+        outcomes.clear();
+    }
+
+    static String key(ITestNGMethod method) {
+        return TestDurationRecorder.key(method.getRealClass(), method.getMethodName());
+    }
+
+    // Entries look like "POST trello.endpoint.boards"
+    static Set<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static String join(Set<String> entries) {
+        return entries == null ? "" : String.join(",", new TreeSet<>(entries));
+    }
+
+    private static void recordCall(String testClassName, String method, String endpoint, int statusCode) {
+        record(method, endpoint);
+    }
+
+    private static void record(String method, String endpoint) {
+        String scope = currentScope.get();
+        String endpointKey = Endpoints.keyOf(endpoint);
+        if (scope != null && endpointKey != null) {
+            touched.computeIfAbsent(scope, key -> ConcurrentHashMap.newKeySet()).add(method.toUpperCase() + " " + endpointKey);
+        }
+    }
+
+    private static void finish(ITestResult result, boolean passed) {
+        // A data-driven method counts as failed when any invocation failed
+        outcomes.merge(key(result.getMethod()), passed, Boolean::logicalAnd);
+        currentScope.remove();
+    }
+
+    // fingerprint.config.<key> per config key, fingerprint.class.<TestClass> per TestBase subclass
+    // (its class file plus nested/lambda classes), and fingerprint.support for every other compiled class
+    private static Map<String, String> computeFingerprints() {
+        Map<String, String> result = new TreeMap<>();
+        ConfigReaderWriter.getAllPropKeys().forEach((key, value) -> result.put(CONFIG_FINGERPRINT_PREFIX + key, digest(value)));
+
+        MessageDigest support = newDigest();
+        Map<String, MessageDigest> testClasses = new TreeMap<>();
+        for (Path root : classRoots()) {
+            List<Path> classFiles;
+            try (Stream<Path> files = Files.walk(root)) {
+                classFiles = files.filter(file -> file.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to fingerprint classes under " + root, e);
+            }
+            for (Path file : classFiles) {
+                String relative = root.relativize(file).toString().replace('\\', '/');
+                String outerName = relative.substring(0, relative.length() - ".class".length()).replace('/', '.').split("\\$")[0];
+                Class<?> outer = loadClass(outerName);
+                MessageDigest digest = outer != null && outer != TestBase.class && TestBase.class.isAssignableFrom(outer)
+                        ? testClasses.computeIfAbsent(outer.getSimpleName(), name -> newDigest())
+                        : support;
+                digest.update(relative.getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = Files.newInputStream(file)) {
+                    digest.update(in.readAllBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to fingerprint " + file, e);
+                }
+            }
+        }
+        testClasses.forEach((name, digest) -> result.put(CLASS_FINGERPRINT_PREFIX + name, hex(digest.digest())));
+        result.put(SUPPORT_FINGERPRINT, hex(support.digest()));
+        return result;
+    }
+
+    // target/test-classes and target/classes (or wherever the build put them)
+    private static Set<Path> classRoots() {
+        Set<Path> roots = new LinkedHashSet<>();
+        for (Class<?> type : Arrays.asList(TestBase.class, ConfigReaderWriter.class)) {
+            try {
+                Path root = Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+                if (Files.isDirectory(root)) {
+                    roots.add(root);
+                }
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Unexpected class location for " + type.getName(), e);
+            }
+        }
+        return roots;
+    }
+
+    private static Class<?> loadClass(String name) {
+        try {
+            return Class.forName(name, false, TestImpactIndex.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static String digest(String value) {
+        return hex(newDigest().digest(String.valueOf(value).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // The first 8 bytes are plenty to tell two versions apart
+    private static String hex(byte[] hash) {
+        return HexFormat.of().formatHex(hash, 0, 8);
+    }
+}
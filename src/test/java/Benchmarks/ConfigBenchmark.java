@@ -0,0 +1,39 @@
+// ConfigBenchmark.java
+package Benchmarks;
+
+import Utils.ConfigReaderWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// ConfigReaderWriter lookups as the suite does them: a key present in config.properties,
+// a typed read with default, and a key that is missing everywhere (falls through to overrides)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigBenchmark {
+
+    @Benchmark
+    public String getPropKey() {
+        return ConfigReaderWriter.getPropKey("trello.api.base.url");
+    }
+
+    @Benchmark
+    public int getIntPropKey() {
+        return ConfigReaderWriter.getIntPropKey("http.pool.max.total", 20);
+    }
+
+    @Benchmark
+    public String getPropKeyMissing() {
+        return ConfigReaderWriter.getPropKey("benchmark.missing.key", "default");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String getPropKeyContended() {
+        return ConfigReaderWriter.getPropKey("trello.api.base.url");
+    }
+}
@@ -0,0 +1,78 @@
+// JsonExtractionBenchmark.java
+package Benchmarks;
+
+import Models.TrelloJson;
+import Models.TrelloList;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Finding one list by id in a GET /boards/{id}/lists payload: the old per-index JsonPath loop from
+// ListTests.getListsOnBoard() against a single TrelloJson pass. The target is the last element,
+// the worst case for both. Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=JsonExtraction
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonExtractionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int lists;
+
+    private String json;
+    private byte[] body;
+    private String targetId;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < lists; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(trelloList(i));
+        }
+        json = sb.append(']').toString();
+        body = json.getBytes(StandardCharsets.UTF_8);
+        targetId = listId(lists - 1);
+    }
+
+    @Benchmark
+    public String jsonPathIndexedLoop() {
+        JsonPath path = new JsonPath(json);
+        for (int i = 0; i < path.getList("").size(); i++) {
+            if (path.getString("[" + i + "].id").equals(targetId)) {
+                return path.getString("[" + i + "].name");
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String trelloJsonSinglePass() {
+        for (TrelloList list : TrelloJson.readList(body, TrelloList.class)) {
+            if (list.getId().equals(targetId)) {
+                return list.getName();
+            }
+        }
+        return null;
+    }
+
+    // Shaped like a real Trello list, including the fields the DTO skips
+    private static String trelloList(int index) {
+        return "{\"id\":\"" + listId(index) + "\",\"name\":\"Test List " + index + "\",\"closed\":false,"
+                + "\"color\":null,\"idBoard\":\"65f1c0ffee0000000000b0a2\",\"pos\":" + (16384 * (index + 1)) + ","
+                + "\"subscribed\":false,\"softLimit\":null,\"type\":null,"
+                + "\"datasource\":{\"filter\":false},\"limits\":{\"cards\":{\"openPerList\":{\"status\":\"ok\","
+                + "\"disableAt\":5000,\"warnAt\":4000},\"totalPerList\":{\"status\":\"ok\",\"disableAt\":1000000,"
+                + "\"warnAt\":800000}}}}";
+    }
+
+    private static String listId(int index) {
+        return String.format("65f1c0ffee%014x", index);
+    }
+}
@@ -0,0 +1,75 @@
+// LogManagerBenchmark.java
+package Benchmarks;
+
+import Utils.ConfigReaderWriter;
+import Utils.LogManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+// Caller-side cost of LogManager.log with 1, 4 and 16 threads writing to the same class log,
+// in both log modes. Each mode runs in its own fork because LogManager reads log.mode once.
+// Console output is discarded so the numbers reflect the log-file path, and the log files
+// written by a run are deleted afterwards. The async queue is kept small and callers wait for room
+// instead of dropping lines, so once producers outrun the writer the async numbers include the
+// backpressure, not just the enqueue.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogManagerBenchmark {
+    private static final String LOG_NAME = "LogManagerBenchmark";
+
+    @Param({"sync", "async"})
+    private String mode;
+
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Must happen before ConfigReaderWriter/LogManager are initialised in this fork
+        System.setProperty("log.mode", mode);
+        System.setProperty("log.async.queue.capacity", "1024");
+        System.setProperty("log.async.offer.timeout.ms", "60000");
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        LogManager.closeAllStreams();
+        System.setOut(originalOut);
+        try (DirectoryStream<Path> logs = Files.newDirectoryStream(Paths.get(ConfigReaderWriter.getPropKey("log.dir", "target/logs")), LOG_NAME + "_*")) {
+            for (Path log : logs) {
+                Files.deleteIfExists(log);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void log1Thread() {
+        LogManager.log(LOG_NAME, "API CALL: GET /boards/65f1c0ffee0000000000b0a2 -> Status: 200 (42 ms)");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void log4Threads() {
+        LogManager.log(LOG_NAME, "API CALL: GET /boards/65f1c0ffee0000000000b0a2 -> Status: 200 (42 ms)");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void log16Threads() {
+        LogManager.log(LOG_NAME, "API CALL: GET /boards/65f1c0ffee0000000000b0a2 -> Status: 200 (42 ms)");
+    }
+}
@@ -0,0 +1,38 @@
+// RequestSpecBenchmark.java
+package Benchmarks;
+
+import Base.TestBase;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// What TestBase does per test class before the first call: build the REST Assured config and the
+// request specification with the default filter chain. Nothing is sent.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSpecBenchmark {
+    private static final String BASE_URI = "https://api.trello.com/1/";
+
+    private RestAssuredConfig config;
+
+    @Setup
+    public void setUp() {
+        config = TestBase.buildRestAssuredConfig();
+    }
+
+    @Benchmark
+    public RestAssuredConfig buildRestAssuredConfig() {
+        return TestBase.buildRestAssuredConfig();
+    }
+
+    @Benchmark
+    public RequestSpecification buildRequestSpecification() {
+        return TestBase.buildRequestSpecification(BASE_URI, config, "RequestSpecBenchmark");
+    }
+}
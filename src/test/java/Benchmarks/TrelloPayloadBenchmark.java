@@ -0,0 +1,86 @@
+// TrelloPayloadBenchmark.java
+package Benchmarks;
+
+import Models.Board;
+import Models.Member;
+import Models.Organization;
+import Models.TrelloJson;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Field extraction from single-object Trello payloads the way the tests assert on them:
+// JsonPath with one and with three getString() queries, against one TrelloJson bind.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrelloPayloadBenchmark {
+
+    @Param({"member", "organization", "board"})
+    private String payload;
+
+    private String json;
+    private byte[] body;
+    private String[] fields;
+    private Class<?> type;
+
+    @Setup
+    public void setUp() {
+        switch (payload) {
+            case "member":
+                json = "{\"id\":\"5a0c0ffee000000000000001\",\"aaId\":\"557058:0c0ffee\",\"activityBlocked\":false,"
+                        + "\"avatarHash\":\"0c0ffee0c0ffee0c0ffee0c0ffee0c0f\",\"bio\":\"\",\"confirmed\":true,"
+                        + "\"fullName\":\"Test User\",\"initials\":\"TU\",\"memberType\":\"normal\","
+                        + "\"url\":\"https://trello.com/testuser\",\"username\":\"testuser\",\"status\":\"disconnected\","
+                        + "\"idBoards\":[\"65f1c0ffee0000000000b0a2\",\"65f1c0ffee0000000000b0a3\"],"
+                        + "\"idOrganizations\":[\"65f1c0ffee0000000000a001\"],\"prefs\":{\"colorBlind\":false,"
+                        + "\"locale\":\"en-US\",\"minutesBetweenSummaries\":60,\"sendSummaries\":true}}";
+                fields = new String[]{"username", "id", "fullName"};
+                type = Member.class;
+                break;
+            case "organization":
+                json = "{\"id\":\"65f1c0ffee0000000000a001\",\"name\":\"testorganization12345\","
+                        + "\"displayName\":\"Test Organization\",\"desc\":\"\",\"descData\":{\"emoji\":{}},"
+                        + "\"url\":\"https://trello.com/w/testorganization12345\",\"website\":null,\"teamType\":null,"
+                        + "\"logoHash\":null,\"logoUrl\":null,\"offering\":\"trello.business_class\","
+                        + "\"products\":[],\"powerUps\":[],\"idBoards\":[]}";
+                fields = new String[]{"displayName", "id", "name"};
+                type = Organization.class;
+                break;
+            default:
+                json = "{\"id\":\"65f1c0ffee0000000000b0a2\",\"name\":\"Test Board\",\"desc\":\"\",\"descData\":null,"
+                        + "\"closed\":false,\"idOrganization\":\"65f1c0ffee0000000000a001\",\"idEnterprise\":null,"
+                        + "\"pinned\":false,\"url\":\"https://trello.com/b/AbCdEf12/test-board\","
+                        + "\"shortUrl\":\"https://trello.com/b/AbCdEf12\",\"prefs\":{\"permissionLevel\":\"org\","
+                        + "\"hideVotes\":false,\"voting\":\"disabled\",\"comments\":\"members\",\"invitations\":\"members\","
+                        + "\"selfJoin\":true,\"cardCovers\":true,\"background\":\"blue\",\"backgroundColor\":\"#0079BF\","
+                        + "\"calendarFeedEnabled\":false},\"labelNames\":{\"green\":\"\",\"yellow\":\"\",\"orange\":\"\","
+                        + "\"red\":\"\",\"purple\":\"\",\"blue\":\"\"},\"limits\":{}}";
+                fields = new String[]{"name", "idOrganization", "id"};
+                type = Board.class;
+                break;
+        }
+        body = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String jsonPathOneField() {
+        return new JsonPath(json).getString(fields[0]);
+    }
+
+    @Benchmark
+    public String jsonPathThreeFields() {
+        JsonPath path = new JsonPath(json);
+        return path.getString(fields[0]) + path.getString(fields[1]) + path.getString(fields[2]);
+    }
+
+    @Benchmark
+    public Object trelloJsonRead() {
+        return TrelloJson.read(body, type);
+    }
+}
@@ -0,0 +1,138 @@
+// BodyLoggingFilter.java
+package Filters;
+
+import Utils.ConfigReaderWriter;
+import Utils.LogManager;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+// Replaces RequestLoggingFilter/ResponseLoggingFilter(LogDetail.ALL): bodies are written raw
+// (no pretty-printing) and cut at log.body.max.bytes. With log.body.mode=headers only request/response
+// lines and headers reach the log, while full exchanges are buffered per test and only written on failure.
+public class BodyLoggingFilter implements OrderedFilter {
+
+    public enum Mode { HEADERS, CAPPED, FULL }
+
+    private static final Mode MODE = Mode.valueOf(ConfigReaderWriter.getPropKey("log.body.mode", "capped").toUpperCase());
+    private static final int MAX_BODY_BYTES = ConfigReaderWriter.getIntPropKey("log.body.max.bytes", 4096);
+    private static final boolean CAPTURE_ON_FAILURE = ConfigReaderWriter.getBooleanPropKey("log.body.capture.on.failure", true);
+    private static final int FAILURE_MAX_BODY_BYTES = ConfigReaderWriter.getIntPropKey("log.body.failure.max.bytes", 65536);
+
+    // Exchanges of the test method currently running on this thread (null outside a test method).
+    // A StringBuffer because calls fanned out to worker threads append to their test's buffer.
+    private static final ThreadLocal<StringBuffer> failureCapture = new ThreadLocal<>();
+
+    private final String testClassName;
+
+    public BodyLoggingFilter(String testClassName) {
+        this.testClassName = testClassName;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        LogManager.log(testClassName, describeRequest(requestSpec, bodyLimit()));
+        Response response = ctx.next(requestSpec, responseSpec);
+        LogManager.log(testClassName, describeResponse(response, bodyLimit()));
+
+        StringBuffer capture = failureCapture.get();
+        if (capture != null) {
+            // One append per exchange so concurrent calls of the same test don't interleave
+            capture.append(describeRequest(requestSpec, FAILURE_MAX_BODY_BYTES) + System.lineSeparator()
+                    + describeResponse(response, FAILURE_MAX_BODY_BYTES) + System.lineSeparator());
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_PRECEDENCE;
+    }
+
+    public static void startCapture() {
+        if (CAPTURE_ON_FAILURE) {
+            failureCapture.set(new StringBuffer());
+        }
+    }
+
+    // Wraps a task so that, on whatever thread it runs, its exchanges go to the calling thread's capture
+    public static <T> Callable<T> withCurrentCapture(Callable<T> task) {
+        StringBuffer capture = failureCapture.get();
+        return () -> {
+            StringBuffer previous = failureCapture.get();
+            failureCapture.set(capture);
+            try {
+                return task.call();
+            } finally {
+                failureCapture.set(previous);
+            }
+        };
+    }
+
+    // Returns the exchanges captured since startCapture() (or null) and stops capturing on this thread
+    public static String stopCapture() {
+        StringBuffer capture = failureCapture.get();
+        failureCapture.remove();
+        return capture == null || capture.length() == 0 ? null : capture.toString();
+    }
+
+    private static int bodyLimit() {
+        switch (MODE) {
+            case HEADERS:
+                return 0;
+            case FULL:
+                return Integer.MAX_VALUE;
+            default:
+                return MAX_BODY_BYTES;
+        }
+    }
+
+    private static String describeRequest(FilterableRequestSpecification requestSpec, int bodyLimit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("REQUEST: ").append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI());
+        appendHeaders(sb, requestSpec.getHeaders());
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            byte[] bytes = body instanceof byte[]
+                    ? (byte[]) body
+                    : body.toString().getBytes(StandardCharsets.UTF_8);
+            appendBody(sb, bytes, bodyLimit);
+        }
+        return sb.toString();
+    }
+
+    private static String describeResponse(Response response, int bodyLimit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("RESPONSE: ").append(response.getStatusLine());
+        appendHeaders(sb, response.getHeaders());
+        appendBody(sb, response.asByteArray(), bodyLimit);
+        return sb.toString();
+    }
+
+    private static void appendHeaders(StringBuilder sb, Headers headers) {
+        for (Header header : headers) {
+            sb.append(System.lineSeparator()).append("    ").append(header.getName()).append(": ").append(header.getValue());
+        }
+    }
+
+    private static void appendBody(StringBuilder sb, byte[] body, int bodyLimit) {
+        if (bodyLimit <= 0 || body.length == 0) {
+            return;
+        }
+        int length = Math.min(body.length, bodyLimit);
+        sb.append(System.lineSeparator()).append("Body:").append(System.lineSeparator())
+                .append(new String(body, 0, length, StandardCharsets.UTF_8));
+        if (length < body.length) {
+            sb.append(System.lineSeparator()).append("... [truncated ").append(body.length - length).append(" of ")
+                    .append(body.length).append(" bytes]");
+        }
+    }
+}
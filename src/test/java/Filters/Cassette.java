@@ -0,0 +1,155 @@
+// Cassette.java
+package Filters;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Recorded exchanges of one test class. On disk a cassette is a small binary file:
+//   int magic, int version, int count, then per exchange
+//   key (method + path + query + body, ids as placeholders), int status, content type, response body
+// with every string stored as int length + UTF-8 bytes. Replays map the file read-only and only
+// decode a response body when it is served.
+final class Cassette {
+    private static final int MAGIC = 0x54434153; // "TCAS"
+    private static final int VERSION = 1;
+
+    private final String name;
+    // Same key can occur several times (e.g. a GET before and after an update); served in recorded order
+    private final Map<String, List<Exchange>> exchanges = new LinkedHashMap<>();
+    private final Map<String, AtomicInteger> cursors = new LinkedHashMap<>();
+    private MappedByteBuffer mapped;
+
+    Cassette(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    synchronized void record(String key, int status, String contentType, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchanges.computeIfAbsent(key, k -> new ArrayList<>()).add(new Exchange(status, contentType, ByteBuffer.wrap(bytes)));
+    }
+
+    // Next recorded exchange for the key (the last one repeats once all have been served), or null
+    synchronized Exchange next(String key) {
+        List<Exchange> recorded = exchanges.get(key);
+        if (recorded == null) {
+            return null;
+        }
+        int index = cursors.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        return recorded.get(Math.min(index, recorded.size() - 1));
+    }
+
+    // Next exchange for the key that hasn't been served yet, or null
+    synchronized Exchange nextUnserved(String key) {
+        List<Exchange> recorded = exchanges.get(key);
+        if (recorded == null) {
+            return null;
+        }
+        AtomicInteger cursor = cursors.computeIfAbsent(key, k -> new AtomicInteger());
+        return cursor.get() < recorded.size() ? recorded.get(cursor.getAndIncrement()) : null;
+    }
+
+    synchronized boolean isEmpty() {
+        return exchanges.isEmpty();
+    }
+
+    synchronized void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(exchanges.values().stream().mapToInt(List::size).sum());
+            for (Map.Entry<String, List<Exchange>> entry : exchanges.entrySet()) {
+                for (Exchange exchange : entry.getValue()) {
+                    writeString(out, entry.getKey());
+                    out.writeInt(exchange.status);
+                    writeString(out, exchange.contentType);
+                    ByteBuffer body = exchange.body.duplicate();
+                    out.writeInt(body.remaining());
+                    byte[] bytes = new byte[body.remaining()];
+                    body.get(bytes);
+                    out.write(bytes);
+                }
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Cassette read(String name, Path file) throws IOException {
+        Cassette cassette = new Cassette(name);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            cassette.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer buffer = cassette.mapped.duplicate();
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not a cassette (or an unsupported version): " + file);
+        }
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            String key = readString(buffer);
+            int status = buffer.getInt();
+            String contentType = readString(buffer);
+            int length = buffer.getInt();
+            ByteBuffer body = buffer.slice();
+            body.limit(length);
+            buffer.position(buffer.position() + length);
+            cassette.exchanges.computeIfAbsent(key, k -> new ArrayList<>()).add(new Exchange(status, contentType, body));
+        }
+        return cassette;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static final class Exchange {
+        private final int status;
+        private final String contentType;
+        private final ByteBuffer body;
+
+        private Exchange(int status, String contentType, ByteBuffer body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+
+        String getBody() {
+            return StandardCharsets.UTF_8.decode(body.duplicate()).toString();
+        }
+    }
+}
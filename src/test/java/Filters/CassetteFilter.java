@@ -0,0 +1,202 @@
+// CassetteFilter.java
+package Filters;
+
+import Utils.ConfigReaderWriter;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Record/replay of API exchanges (http.cassette.mode):
+//   record - exchanges go to the API and are saved per test class under http.cassette.dir at suite end
+//   replay - recorded exchanges are served without touching the network; unrecorded ones go to the API
+//   strict - like replay, but an unrecorded request fails the test
+// Trello ids are stored as placeholders (see IdRemapper), so replays hand out consistent fresh ids.
+// Suite-level traffic (shared fixtures, identity check, cleanup) goes to a shared "Suite" cassette
+// because which test class triggers it depends on thread scheduling.
+public class CassetteFilter implements OrderedFilter {
+
+    public enum Mode { OFF, RECORD, REPLAY, STRICT }
+
+    public static final Mode MODE = Mode.valueOf(ConfigReaderWriter.getPropKey("http.cassette.mode", "off").toUpperCase());
+    private static final Path DIRECTORY = Paths.get(ConfigReaderWriter.getPropKey("http.cassette.dir", "src/test/resources/cassettes"));
+    private static final String SUITE_CASSETTE = "Suite";
+    private static final String EXTENSION = ".cassette";
+
+    private static final IdRemapper ids = new IdRemapper();
+    private static final Map<String, Cassette> cassettes = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> suiteScope = new ThreadLocal<>();
+    private static volatile boolean loaded;
+
+    private static final AtomicLong recorded = new AtomicLong();
+    private static final AtomicLong replayed = new AtomicLong();
+    private static final AtomicLong passedThrough = new AtomicLong();
+
+    private final String testClassName;
+
+    public CassetteFilter(String testClassName) {
+        this.testClassName = testClassName;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String cassetteName = suiteScope.get() != null ? SUITE_CASSETTE : testClassName;
+        String key = keyOf(requestSpec);
+
+        if (MODE == Mode.RECORD) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            cassettes.computeIfAbsent(cassetteName, Cassette::new)
+                    .record(key, response.getStatusCode(), String.valueOf(response.getContentType()), ids.toPlaceholders(response.asString()));
+            recorded.incrementAndGet();
+            return response;
+        }
+
+        Cassette.Exchange exchange = find(cassetteName, key);
+        if (exchange != null) {
+            replayed.incrementAndGet();
+            return new ResponseBuilder()
+                    .setStatusCode(exchange.getStatus())
+                    .setStatusLine("HTTP/1.1 " + exchange.getStatus())
+                    .setHeaders(new Headers())
+                    .setContentType(exchange.getContentType())
+                    .setBody(ids.fromPlaceholders(exchange.getBody()))
+                    .build();
+        }
+        if (MODE == Mode.STRICT) {
+            throw new IllegalStateException("No recorded exchange for \"" + key + "\" in cassette " + cassetteName
+                    + " or any other cassette in " + DIRECTORY + " (http.cassette.mode=strict)");
+        }
+        passedThrough.incrementAndGet();
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside body logging so replays are logged, outside timing/rate limiting so they cost no quota
+        return DEFAULT_PRECEDENCE + 2;
+    }
+
+    public static boolean isEnabled() {
+        return MODE != Mode.OFF;
+    }
+
+    // Runs suite-level requests (fixtures, identity, cleanup) against the shared cassette
+    public static <T> T suiteScoped(Supplier<T> action) {
+        String previous = suiteScope.get();
+        suiteScope.set(SUITE_CASSETTE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                suiteScope.remove();
+            } else {
+                suiteScope.set(previous);
+            }
+        }
+    }
+
+    // Called once at suite end: writes the recorded cassettes and returns a summary line
+    public static String finish() throws IOException {
+        if (MODE == Mode.RECORD) {
+            for (Cassette cassette : cassettes.values()) {
+                if (!cassette.isEmpty()) {
+                    cassette.write(DIRECTORY.resolve(cassette.getName() + EXTENSION));
+                }
+            }
+        }
+        return String.format("CASSETTE STATS: mode=%s, cassettes=%s, recorded=%d, replayed=%d, passed through=%d",
+                MODE.name().toLowerCase(), cassettes.keySet().stream().sorted().collect(Collectors.joining(",")),
+                recorded.get(), replayed.get(), passedThrough.get());
+    }
+
+    // Prefers an unserved exchange from the caller's cassette, then from any other cassette,
+    // and only then repeats the last exchange recorded for the key
+    private static Cassette.Exchange find(String cassetteName, String key) {
+        loadAll();
+        List<Cassette> candidates = new ArrayList<>();
+        Cassette own = cassettes.get(cassetteName);
+        if (own != null) {
+            candidates.add(own);
+        }
+        cassettes.values().stream().filter(cassette -> cassette != own).forEach(candidates::add);
+
+        for (Cassette cassette : candidates) {
+            Cassette.Exchange exchange = cassette.nextUnserved(key);
+            if (exchange != null) {
+                return exchange;
+            }
+        }
+        for (Cassette cassette : candidates) {
+            Cassette.Exchange exchange = cassette.next(key);
+            if (exchange != null) {
+                return exchange;
+            }
+        }
+        return null;
+    }
+
+    private static void loadAll() {
+        if (loaded) {
+            return;
+        }
+        synchronized (cassettes) {
+            if (loaded) {
+                return;
+            }
+            if (Files.isDirectory(DIRECTORY)) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(DIRECTORY, "*" + EXTENSION)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        name = name.substring(0, name.length() - EXTENSION.length());
+                        cassettes.put(name, Cassette.read(name, file));
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to load cassettes from " + DIRECTORY, e);
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    // Method, path and the parameters that identify the request; credentials are left out so
+    // cassettes can be replayed (and shared) without them
+    private static String keyOf(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath() == null || requestSpec.getUserDefinedPath().isEmpty()
+                ? requestSpec.getDerivedPath()
+                : requestSpec.getUserDefinedPath();
+        Map<String, String> params = new TreeMap<>(requestSpec.getQueryParams());
+        params.putAll(requestSpec.getFormParams());
+        params.remove("key");
+        params.remove("token");
+
+        StringBuilder key = new StringBuilder(requestSpec.getMethod().toUpperCase()).append(' ').append(path);
+        if (!params.isEmpty()) {
+            key.append('?').append(params.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .collect(Collectors.joining("&")));
+        }
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            key.append(' ').append(body);
+        }
+        return ids.knownToPlaceholders(key.toString());
+    }
+}
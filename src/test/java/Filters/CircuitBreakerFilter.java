@@ -0,0 +1,189 @@
+// CircuitBreakerFilter.java
+package Filters;
+
+import Utils.ConfigReaderWriter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.testng.SkipException;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// Fails fast when the API base URL is unreachable instead of letting every test wait out its timeouts.
+// The first request to a base URL is preceded by a cheap probe (one GET on the base URL with
+// http.breaker.probe.timeout.ms timeouts; any status below 500 counts as reachable). The circuit opens
+// when the probe fails or after http.breaker.failure.threshold consecutive connect/socket failures.
+// While open, requests throw SkipException, so TestNG reports the remaining tests as skipped with the reason.
+// After http.breaker.open.ms the next request probes again (half-open) and closes the circuit if the probe succeeds.
+public class CircuitBreakerFilter implements OrderedFilter {
+    private static final boolean ENABLED = ConfigReaderWriter.getBooleanPropKey("http.breaker.enabled", true);
+    private static final int FAILURE_THRESHOLD = ConfigReaderWriter.getIntPropKey("http.breaker.failure.threshold", 3);
+    private static final long OPEN_NANOS = TimeUnit.MILLISECONDS.toNanos(ConfigReaderWriter.getLongPropKey("http.breaker.open.ms", 15000));
+    private static final int PROBE_TIMEOUT_MS = ConfigReaderWriter.getIntPropKey("http.breaker.probe.timeout.ms", 2000);
+
+    private static final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        if (!ENABLED) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        Circuit circuit = circuits.computeIfAbsent(requestSpec.getBaseUri(), Circuit::new);
+        circuit.beforeRequest();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            circuit.onSuccess();
+            return response;
+        } catch (Exception e) {
+            // REST Assured rethrows transport errors (IOExceptions) undeclared
+            if (isTransportFailure(e)) {
+                circuit.onFailure(e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside the cache and cassette, which can answer without the network; outside timing and
+        // rate limiting, so fast-failed requests neither count as calls nor use up tokens
+        return DEFAULT_PRECEDENCE + 3;
+    }
+
+    public static String getStats() {
+        if (circuits.isEmpty()) {
+            return "CIRCUIT BREAKER STATS: no requests";
+        }
+        return "CIRCUIT BREAKER STATS: " + circuits.values().stream()
+                .map(Circuit::stats)
+                .collect(Collectors.joining("; "));
+    }
+
+    private static boolean isTransportFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final class Circuit {
+        private final String baseUri;
+        // One prober at a time; requests arriving meanwhile wait for its verdict (at most the probe timeouts)
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile State state = State.HALF_OPEN;
+        private volatile int consecutiveFailures;
+        private long openedAtNanos;
+        private String reason;
+        private long trips;
+        private long probes;
+        private long fastFailures;
+
+        private Circuit(String baseUri) {
+            this.baseUri = baseUri;
+        }
+
+        private void beforeRequest() {
+            if (state == State.CLOSED) {
+                return;
+            }
+            lock.lock();
+            try {
+                if (state == State.OPEN && System.nanoTime() - openedAtNanos >= OPEN_NANOS) {
+                    state = State.HALF_OPEN;
+                }
+                if (state == State.HALF_OPEN) {
+                    String failure = probe();
+                    if (failure == null) {
+                        consecutiveFailures = 0;
+                        state = State.CLOSED;
+                        return;
+                    }
+                    open("probe failed: " + failure);
+                }
+                if (state == State.OPEN) {
+                    fastFailures++;
+                    long retryInMs = TimeUnit.NANOSECONDS.toMillis(Math.max(OPEN_NANOS - (System.nanoTime() - openedAtNanos), 0));
+                    throw new SkipException("Circuit open for " + baseUri + " (" + reason + "); next probe in " + retryInMs + " ms");
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onSuccess() {
+            if (consecutiveFailures == 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                consecutiveFailures = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onFailure(Throwable error) {
+            lock.lock();
+            try {
+                consecutiveFailures++;
+                if (state == State.CLOSED && consecutiveFailures >= FAILURE_THRESHOLD) {
+                    open(consecutiveFailures + " consecutive connection failures, last: " + error);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void open(String why) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            reason = why;
+            trips++;
+        }
+
+        // Returns null when the base URL answered, otherwise what went wrong
+        private String probe() {
+            probes++;
+            HttpURLConnection connection = null;
+            try {
+                connection = (HttpURLConnection) new URL(baseUri).openConnection();
+                connection.setConnectTimeout(PROBE_TIMEOUT_MS);
+                connection.setReadTimeout(PROBE_TIMEOUT_MS);
+                connection.setInstanceFollowRedirects(false);
+                int status = connection.getResponseCode();
+                return status < 500 ? null : "status " + status;
+            } catch (IOException | RuntimeException e) {
+                return e.toString();
+            } finally {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+            }
+        }
+
+        private String stats() {
+            lock.lock();
+            try {
+                return String.format("%s state=%s, probes=%d, trips=%d, fast-failed requests=%d%s", baseUri,
+                        state.name().toLowerCase(), probes, trips, fastFailures, reason == null ? "" : ", last reason: " + reason);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
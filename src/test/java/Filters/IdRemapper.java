@@ -0,0 +1,60 @@
+// IdRemapper.java
+package Filters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Translates Trello ids to stable placeholders ({{id:N}}) and back. While recording, every id the
+// API hands out becomes the next placeholder; while replaying, each placeholder is bound to a fresh
+// id on first use. Requests are matched on their placeholder form, so a replayed run can create
+// resources in any order and still find the exchanges recorded for them.
+final class IdRemapper {
+    private static final Pattern TRELLO_ID = Pattern.compile("\\b[0-9a-fA-F]{24}\\b");
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{id:(\\d+)}}");
+    private static final String REPLAY_ID_PREFIX = "ca55e77e";
+
+    private final Map<String, String> placeholderById = new ConcurrentHashMap<>();
+    private final Map<String, String> idByPlaceholder = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Recording a response: ids seen for the first time get new placeholders
+    synchronized String toPlaceholders(String text) {
+        return replace(TRELLO_ID, text, id -> placeholderById.computeIfAbsent(id.toLowerCase(),
+                key -> "{{id:" + sequence.incrementAndGet() + "}}"));
+    }
+
+    // Matching a request: only ids already known are replaced; anything else must match literally
+    String knownToPlaceholders(String text) {
+        return replace(TRELLO_ID, text, id -> placeholderById.getOrDefault(id.toLowerCase(), id));
+    }
+
+    // Replaying a response: placeholders seen for the first time are bound to new ids
+    synchronized String fromPlaceholders(String text) {
+        return replace(PLACEHOLDER, text, placeholder -> idByPlaceholder.computeIfAbsent(placeholder, key -> {
+            String id = String.format("%s%016x", REPLAY_ID_PREFIX, sequence.incrementAndGet());
+            placeholderById.put(id, key);
+            return id;
+        }));
+    }
+
+    private static String replace(Pattern pattern, String text, Function<String, String> replacement) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        Matcher matcher = pattern.matcher(text);
+        StringBuilder sb = null;
+        int last = 0;
+        while (matcher.find()) {
+            if (sb == null) {
+                sb = new StringBuilder(text.length());
+            }
+            sb.append(text, last, matcher.start()).append(replacement.apply(matcher.group()));
+            last = matcher.end();
+        }
+        return sb == null ? text : sb.append(text, last, text.length()).toString();
+    }
+}
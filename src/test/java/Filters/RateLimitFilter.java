@@ -0,0 +1,155 @@
+// RateLimitFilter.java
+package Filters;
+
+import Utils.ConfigReaderWriter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.restassured.RestAssured.given;
+
+// Paces every request of the suite through one token bucket sized to the Trello key/token budget
+// (rate.limit.requests per rate.limit.window.ms) and retries throttled or failed calls with jittered
+// exponential backoff, honouring Retry-After. 429s are retried for any method because Trello rejects
+// them before doing any work; 5xx responses only for idempotent methods.
+public class RateLimitFilter implements OrderedFilter {
+    private static final boolean ENABLED = ConfigReaderWriter.getBooleanPropKey("rate.limit.enabled", true);
+    private static final int BUCKET_CAPACITY = ConfigReaderWriter.getIntPropKey("rate.limit.requests", 90);
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(ConfigReaderWriter.getLongPropKey("rate.limit.window.ms", 10000));
+    private static final int MAX_RETRIES = ConfigReaderWriter.getIntPropKey("rate.limit.max.retries", 3);
+    private static final long RETRY_BACKOFF_MS = ConfigReaderWriter.getLongPropKey("rate.limit.retry.backoff.ms", 500);
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+
+    private static final TokenBucket bucket = new TokenBucket(BUCKET_CAPACITY, WINDOW_NANOS);
+
+    private static final AtomicLong requests = new AtomicLong();
+    private static final AtomicLong throttledRequests = new AtomicLong();
+    private static final AtomicLong throttledNanos = new AtomicLong();
+    private static final AtomicLong tooManyRequests = new AtomicLong();
+    private static final AtomicLong retries = new AtomicLong();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        if (!ENABLED) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        pace();
+        Response response = ctx.next(requestSpec, responseSpec);
+        boolean idempotent = IDEMPOTENT_METHODS.contains(requestSpec.getMethod().toUpperCase());
+
+        for (int attempt = 0; attempt < MAX_RETRIES && isRetryable(response.getStatusCode(), idempotent); attempt++) {
+            if (response.getStatusCode() == 429) {
+                tooManyRequests.incrementAndGet();
+            }
+            // Drain the rejected body so its connection goes back to the pool before we wait
+            response.asByteArray();
+            sleep(backoffMillis(response.getHeader("Retry-After"), attempt));
+
+            retries.incrementAndGet();
+            pace();
+            response = ctx.send(copyOf(requestSpec));
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        // Innermost filter: retries are re-sent from here without re-running logging/timing filters
+        return LOWEST_PRECEDENCE;
+    }
+
+    public static String getStats() {
+        return String.format("RATE LIMIT STATS: requests=%d, throttled=%d, throttled time=%dms, 429 responses=%d, retries=%d",
+                requests.get(), throttledRequests.get(), TimeUnit.NANOSECONDS.toMillis(throttledNanos.get()),
+                tooManyRequests.get(), retries.get());
+    }
+
+    private static void pace() {
+        requests.incrementAndGet();
+        long waitedNanos = bucket.acquire();
+        if (waitedNanos > 0) {
+            throttledRequests.incrementAndGet();
+            throttledNanos.addAndGet(waitedNanos);
+        }
+    }
+
+    private static boolean isRetryable(int statusCode, boolean idempotent) {
+        return statusCode == 429 || (idempotent && statusCode >= 500);
+    }
+
+    private static long backoffMillis(String retryAfter, int attempt) {
+        if (retryAfter != null && retryAfter.trim().matches("\\d+")) {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        }
+        long backoff = RETRY_BACKOFF_MS << attempt;
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    // The filter chain can only be walked once, so a retry sends a bare copy of the request
+    // (ctx.send() reuses the resolved method and path; parameters have to be carried over)
+    private static RequestSpecification copyOf(FilterableRequestSpecification requestSpec) {
+        RequestSpecification retry = given()
+                .config(requestSpec.getConfig())
+                .headers(requestSpec.getHeaders())
+                .queryParams(requestSpec.getQueryParams())
+                .formParams(requestSpec.getFormParams());
+        if (requestSpec.getBody() != null) {
+            retry.body((Object) requestSpec.getBody());
+        }
+        return retry;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(int capacity, long windowNanos) {
+            this.capacity = capacity;
+            this.tokensPerNano = capacity / (double) windowNanos;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        // Takes a token, sleeping outside the lock until one is available; returns the time spent waiting
+        private long acquire() {
+            long started = System.nanoTime();
+            boolean waited = false;
+            while (true) {
+                long waitNanos;
+                synchronized (this) {
+                    long now = System.nanoTime();
+                    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+                    lastRefillNanos = now;
+                    if (tokens >= 1) {
+                        tokens -= 1;
+                        return waited ? System.nanoTime() - started : 0;
+                    }
+                    waitNanos = (long) ((1 - tokens) / tokensPerNano);
+                }
+                waited = true;
+                sleep(Math.max(TimeUnit.NANOSECONDS.toMillis(waitNanos), 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+// ResponseCacheFilter.java
+package Filters;
+
+import Utils.ConfigReaderWriter;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Opt-in (http.cache.enabled) suite-wide LRU cache for successful GETs, keyed by method + URL.
+// Entries with an ETag are revalidated with If-None-Match on every hit and served from the cache
+// on 304; entries without one are served for up to http.cache.ttl.ms. Any other method
+// invalidates cached GETs under the same path and any that mention a Trello id from its path or
+// params, so PUT /lists/{id}/closed drops GET /lists/{id} and POST /lists?idBoard=X drops GET /boards/X/lists.
+public class ResponseCacheFilter implements OrderedFilter {
+    private static final int MAX_ENTRIES = ConfigReaderWriter.getIntPropKey("http.cache.max.entries", 256);
+    private static final long TTL_NANOS = TimeUnit.MILLISECONDS.toNanos(ConfigReaderWriter.getLongPropKey("http.cache.ttl.ms", 30000));
+    private static final Pattern TRELLO_ID = Pattern.compile("[0-9a-fA-F]{24}");
+
+    private static final Map<String, CachedResponse> cache = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong revalidated = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+    private static final AtomicLong invalidations = new AtomicLong();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String method = requestSpec.getMethod().toUpperCase();
+        if (!method.equals("GET")) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            invalidate(requestSpec);
+            return response;
+        }
+
+        String key = method + " " + requestSpec.getURI();
+        CachedResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+
+        if (cached != null && cached.etag == null && System.nanoTime() - cached.storedAtNanos < TTL_NANOS) {
+            hits.incrementAndGet();
+            return copy(cached.response);
+        }
+        if (cached != null && cached.etag != null) {
+            requestSpec.header("If-None-Match", cached.etag);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && cached.etag != null && response.getStatusCode() == 304) {
+            hits.incrementAndGet();
+            revalidated.incrementAndGet();
+            return copy(cached.response);
+        }
+
+        misses.incrementAndGet();
+        if (response.getStatusCode() == 200) {
+            store(key, response);
+        } else {
+            synchronized (cache) {
+                cache.remove(key);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside body logging so hits are still logged, outside timing/rate limiting so they cost nothing
+        return DEFAULT_PRECEDENCE + 1;
+    }
+
+    public static String getStats() {
+        long lookups = hits.get() + misses.get();
+        double hitRate = lookups == 0 ? 0.0 : (hits.get() * 100.0) / lookups;
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return String.format("RESPONSE CACHE STATS: lookups=%d, hits=%d (revalidated=%d), misses=%d, hit rate=%.1f%%, "
+                        + "invalidations=%d, evictions=%d, entries=%d/%d",
+                lookups, hits.get(), revalidated.get(), misses.get(), hitRate, invalidations.get(), evictions.get(),
+                size, MAX_ENTRIES);
+    }
+
+    private static void store(String key, Response response) {
+        // Keep a private copy: the caller's response object stays the caller's
+        CachedResponse entry = new CachedResponse(copy(response), response.getHeader("ETag"), System.nanoTime());
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    private static void invalidate(FilterableRequestSpecification requestSpec) {
+        String path = URI.create(requestSpec.getURI()).getPath();
+        Set<String> ids = new HashSet<>();
+        collectIds(path, ids);
+        requestSpec.getQueryParams().values().forEach(value -> collectIds(value, ids));
+        requestSpec.getFormParams().values().forEach(value -> collectIds(value, ids));
+
+        synchronized (cache) {
+            Iterator<String> keys = cache.keySet().iterator();
+            while (keys.hasNext()) {
+                String cachedPath = URI.create(keys.next().substring("GET ".length())).getPath();
+                if (cachedPath.startsWith(path) || path.startsWith(cachedPath) || containsAny(cachedPath, ids)) {
+                    keys.remove();
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static void collectIds(String value, Set<String> ids) {
+        Matcher matcher = TRELLO_ID.matcher(value);
+        while (matcher.find()) {
+            ids.add(matcher.group());
+        }
+    }
+
+    private static boolean containsAny(String value, Set<String> ids) {
+        for (String id : ids) {
+            if (value.contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Response copy(Response response) {
+        return new ResponseBuilder().clone(response).build();
+    }
+
+    private static final class CachedResponse {
+        private final Response response;
+        private final String etag;
+        private final long storedAtNanos;
+
+        private CachedResponse(Response response, String etag, long storedAtNanos) {
+            this.response = response;
+            this.etag = etag;
+            this.storedAtNanos = storedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+// TimingFilter.java
+package Filters;
+
+import Base.HttpClientPool;
+import Utils.LatencyRecorder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.TimeUnit;
+
+// Times every call (connect, time to first byte, total until the body is read) into
+// LatencyRecorder. Runs just outside the connection-release filter so "total" covers the
+// buffered body but not the rate limiter's pacing or earlier retry attempts.
+public class TimingFilter implements OrderedFilter {
+    private static final ThreadLocal<Long> lastTotalNanos = ThreadLocal.withInitial(() -> 0L);
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long filterStart = System.nanoTime();
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            long end = System.nanoTime();
+            HttpClientPool.RequestTiming timing = HttpClientPool.currentTiming();
+            // A stale timing means the request never reached the pool (e.g. it failed before sending)
+            boolean sent = timing.getStartNanos() >= filterStart;
+            long start = sent ? timing.getStartNanos() : filterStart;
+            long total = end - start;
+            lastTotalNanos.set(total);
+
+            String path = requestSpec.getUserDefinedPath() == null || requestSpec.getUserDefinedPath().isEmpty()
+                    ? requestSpec.getDerivedPath()
+                    : requestSpec.getUserDefinedPath();
+            LatencyRecorder.record(requestSpec.getMethod(), path, response == null ? 0 : response.getStatusCode(),
+                    start, total, sent ? timing.getConnectNanos() : 0, sent ? timing.getTimeToFirstByteNanos() : 0);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    // Total time of the latest call made on this thread, for per-call log lines
+    public static long lastDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastTotalNanos.get());
+    }
+}
@@ -0,0 +1,132 @@
+// FixtureManager.java
+package Fixtures;
+
+import Base.TestDurationRecorder;
+import Base.TestImpactIndex;
+import Filters.CassetteFilter;
+import Filters.TimingFilter;
+import Models.Board;
+import Models.Organization;
+import Models.TrelloJson;
+import Utils.Endpoints;
+import Utils.LogManager;
+import Utils.TestDataHelper;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import static io.restassured.RestAssured.given;
+
+// Suite-wide organization/board shared by test classes that only need a parent resource.
+// Each fixture is created lazily by the first class that asks for it, reference-counted
+// per acquiring class, and deleted once at the end of the suite through ResourceRegistry.
+public final class FixtureManager {
+    private static Fixture organization;
+    private static Fixture board;
+
+    private FixtureManager() {
+    }
+
+    public static synchronized String acquireOrganization(String testClassName, RequestSpecification spec) {
+        if (organization == null) {
+            LogManager.log(testClassName, "Creating shared organization fixture: " + TestDataHelper.getOrganizationName());
+            Response response = CassetteFilter.suiteScoped(() -> given()
+                    .spec(spec)
+                    .queryParam("displayName", TestDataHelper.getOrganizationName())
+                    .when()
+                    .post(Endpoints.organizations().path()));
+
+            response.then().statusCode(200);
+            LogManager.logApiCall(testClassName, "POST", Endpoints.organizations().path(), response.getStatusCode(),
+                    TimingFilter.lastDurationMillis());
+            TestDurationRecorder.recordFixture(SharedFixture.ORGANIZATION, TimingFilter.lastDurationMillis());
+            organization = new Fixture("organization", TrelloJson.read(response, Organization.class).getId(), testClassName);
+            ResourceRegistry.register(ResourceRegistry.ResourceType.ORGANIZATION, organization.id, testClassName, spec);
+        } else {
+            TestImpactIndex.recordCachedCall("POST", Endpoints.organizations().path());
+        }
+        return organization.acquire(testClassName);
+    }
+
+    public static synchronized String acquireBoard(String testClassName, RequestSpecification spec) {
+        if (board == null) {
+            // The shared board keeps its own reference on the shared organization
+            String organizationId = acquireOrganization(testClassName, spec);
+
+            LogManager.log(testClassName, "Creating shared board fixture: " + TestDataHelper.getBoardName());
+            Response response = CassetteFilter.suiteScoped(() -> given()
+                    .spec(spec)
+                    .queryParam("name", TestDataHelper.getBoardName())
+                    .queryParam("idOrganization", organizationId)
+                    .when()
+                    .post(Endpoints.boards().path()));
+
+            response.then().statusCode(200);
+            LogManager.logApiCall(testClassName, "POST", Endpoints.boards().path(), response.getStatusCode(),
+                    TimingFilter.lastDurationMillis());
+            TestDurationRecorder.recordFixture(SharedFixture.BOARD, TimingFilter.lastDurationMillis());
+            board = new Fixture("board", TrelloJson.read(response, Board.class).getId(), testClassName);
+            ResourceRegistry.register(ResourceRegistry.ResourceType.BOARD, board.id, organizationId, testClassName, spec);
+        } else {
+            // The shared board exists only because its organization could be created
+            TestImpactIndex.recordCachedCall("POST", Endpoints.organizations().path());
+            TestImpactIndex.recordCachedCall("POST", Endpoints.boards().path());
+        }
+        return board.acquire(testClassName);
+    }
+
+    public static synchronized void releaseOrganization(String testClassName) {
+        if (organization != null) {
+            organization.release(testClassName);
+        }
+    }
+
+    public static synchronized void releaseBoard(String testClassName) {
+        if (board != null) {
+            board.release(testClassName);
+        }
+    }
+
+    // Called once from @AfterSuite, before ResourceRegistry removes the fixtures themselves
+    public static synchronized void tearDown() {
+        if (board != null) {
+            board.close();
+            board = null;
+            releaseOrganization("board fixture");
+        }
+        if (organization != null) {
+            organization.close();
+            organization = null;
+        }
+    }
+
+    private static final class Fixture {
+        private final String type;
+        private final String id;
+        private final String ownerClassName;
+        private int references;
+
+        private Fixture(String type, String id, String ownerClassName) {
+            this.type = type;
+            this.id = id;
+            this.ownerClassName = ownerClassName;
+            LogManager.log(ownerClassName, "Created shared " + type + " fixture with ID: " + id);
+        }
+
+        private String acquire(String testClassName) {
+            references++;
+            LogManager.log(testClassName, "Acquired shared " + type + " " + id + " (references: " + references + ")");
+            return id;
+        }
+
+        private void release(String holder) {
+            references = Math.max(references - 1, 0);
+            LogManager.log(ownerClassName, holder + " released shared " + type + " " + id + " (references: " + references + ")");
+        }
+
+        private void close() {
+            if (references > 0) {
+                LogManager.log(ownerClassName, "WARNING: shared " + type + " " + id + " still has " + references + " unreleased reference(s)");
+            }
+        }
+    }
+}
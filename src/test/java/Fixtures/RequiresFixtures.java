@@ -0,0 +1,15 @@
+// RequiresFixtures.java
+package Fixtures;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Declares which shared fixtures a test class acquires in its setup, so the suite
+// scheduler can place the class after the fixture in the dependency graph
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RequiresFixtures {
+    SharedFixture[] value();
+}
@@ -0,0 +1,200 @@
+// ResourceRegistry.java
+package Fixtures;
+
+import Filters.CassetteFilter;
+import Utils.ConfigReaderWriter;
+import Utils.Endpoints;
+import Utils.LogManager;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+
+// Records every Trello resource the suite creates and removes them all at the end of the suite,
+// one dependency tier at a time (lists, then boards, then organizations) with each tier deleted concurrently.
+public final class ResourceRegistry {
+
+    public enum ResourceType { LIST, BOARD, ORGANIZATION }
+
+    private static final int CLEANUP_THREADS = ConfigReaderWriter.getIntPropKey("cleanup.threads", 4);
+    private static final int MAX_RETRIES = ConfigReaderWriter.getIntPropKey("cleanup.max.retries", 3);
+    private static final long RETRY_BACKOFF_MS = ConfigReaderWriter.getLongPropKey("cleanup.retry.backoff.ms", 500);
+
+    private static final Queue<TrackedResource> resources = new ConcurrentLinkedQueue<>();
+
+    private ResourceRegistry() {
+    }
+
+    public static void register(ResourceType type, String id, String testClassName, RequestSpecification spec) {
+        register(type, id, null, testClassName, spec);
+    }
+
+    public static void register(ResourceType type, String id, String parentId, String testClassName, RequestSpecification spec) {
+        if (id == null) {
+            return;
+        }
+        resources.add(new TrackedResource(type, id, parentId, testClassName, spec));
+        LogManager.log(testClassName, "Registered " + type.name().toLowerCase() + " " + id + " for cleanup");
+    }
+
+    // Deletes everything registered so far; returns (and logs to reportLog) whatever could not be removed
+    public static List<TrackedResource> cleanUp(String reportLog) {
+        List<TrackedResource> tracked = new ArrayList<>(resources);
+        resources.clear();
+        if (tracked.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> boardIds = tracked.stream()
+                .filter(resource -> resource.type == ResourceType.BOARD)
+                .map(resource -> resource.id)
+                .collect(Collectors.toSet());
+
+        List<TrackedResource> leaked = new ArrayList<>();
+        // Lists that go away with a registered board; they only count once we know whether the board did
+        List<TrackedResource> listsOnBoards = new ArrayList<>();
+        Set<String> removedBoardIds = new HashSet<>();
+        int removed = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(CLEANUP_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "resource-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (ResourceType tier : ResourceType.values()) {
+                List<Future<Boolean>> results = new ArrayList<>();
+                List<TrackedResource> tierResources = new ArrayList<>();
+                for (TrackedResource resource : tracked) {
+                    if (resource.type != tier) {
+                        continue;
+                    }
+                    // Trello lists can't be deleted; they go away with their board
+                    if (tier == ResourceType.LIST && boardIds.contains(resource.parentId)) {
+                        listsOnBoards.add(resource);
+                        continue;
+                    }
+                    tierResources.add(resource);
+                    results.add(executor.submit(resource::remove));
+                }
+
+                for (int i = 0; i < results.size(); i++) {
+                    if (awaitRemoval(results.get(i), tierResources.get(i))) {
+                        removed++;
+                        if (tier == ResourceType.BOARD) {
+                            removedBoardIds.add(tierResources.get(i).id);
+                        }
+                    } else {
+                        leaked.add(tierResources.get(i));
+                    }
+                }
+
+                if (tier == ResourceType.BOARD) {
+                    for (TrackedResource list : listsOnBoards) {
+                        if (removedBoardIds.contains(list.parentId)) {
+                            removed++;
+                        } else {
+                            list.lastError = "board " + list.parentId + " was not removed";
+                            leaked.add(list);
+                        }
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LogManager.log(reportLog, String.format("CLEANUP REPORT: %d resource(s) tracked, %d removed, %d leaked",
+                tracked.size(), removed, leaked.size()));
+        leaked.forEach(resource -> LogManager.log(reportLog, "LEAKED: " + resource));
+        return leaked;
+    }
+
+    private static boolean awaitRemoval(Future<Boolean> result, TrackedResource resource) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resource.lastError = "interrupted";
+            return false;
+        } catch (ExecutionException e) {
+            resource.lastError = String.valueOf(e.getCause());
+            return false;
+        }
+    }
+
+    public static final class TrackedResource {
+        private final ResourceType type;
+        private final String id;
+        private final String parentId;
+        private final String ownerClassName;
+        private final RequestSpecification spec;
+        private volatile String lastError;
+
+        private TrackedResource(ResourceType type, String id, String parentId, String ownerClassName, RequestSpecification spec) {
+            this.type = type;
+            this.id = id;
+            this.parentId = parentId;
+            this.ownerClassName = ownerClassName;
+            this.spec = spec;
+        }
+
+        private boolean remove() throws InterruptedException {
+            for (int attempt = 0; attempt <= MAX_RETRIES; attempt++) {
+                long retryAfterMs = RETRY_BACKOFF_MS << attempt;
+                try {
+                    Response response = CassetteFilter.suiteScoped(this::send);
+                    int status = response.getStatusCode();
+                    // 404 means someone else already removed it
+                    if (status == 200 || status == 404) {
+                        LogManager.log(ownerClassName, "Successfully cleaned up " + type.name().toLowerCase() + " with ID: " + id);
+                        return true;
+                    }
+                    lastError = "status " + status;
+                    if (status != 429 && status < 500) {
+                        return false;
+                    }
+                    String retryAfter = response.getHeader("Retry-After");
+                    if (retryAfter != null && retryAfter.matches("\\d+")) {
+                        retryAfterMs = Long.parseLong(retryAfter) * 1000;
+                    }
+                } catch (RuntimeException e) {
+                    lastError = e.toString();
+                }
+
+                if (attempt < MAX_RETRIES) {
+                    LogManager.log(ownerClassName, "Retrying cleanup of " + type.name().toLowerCase() + " " + id
+                            + " in " + retryAfterMs + "ms (" + lastError + ")");
+                    Thread.sleep(retryAfterMs);
+                }
+            }
+            return false;
+        }
+
+        private Response send() {
+            String endpoint;
+            Response response;
+            if (type == ResourceType.LIST) {
+                endpoint = Endpoints.lists().closed(id);
+                response = given().spec(spec).queryParam("value", true).when().put(endpoint);
+            } else {
+                endpoint = type == ResourceType.BOARD ? Endpoints.boards().byId(id) : Endpoints.organizations().byId(id);
+                response = given().spec(spec).when().delete(endpoint);
+            }
+            LogManager.logApiCall(ownerClassName, type == ResourceType.LIST ? "PUT" : "DELETE", endpoint, response.getStatusCode());
+            return response;
+        }
+
+        @Override
+        public String toString() {
+            return type.name().toLowerCase() + " " + id + " (created by " + ownerClassName + ", last error: " + lastError + ")";
+        }
+    }
+}
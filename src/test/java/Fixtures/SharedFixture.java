@@ -0,0 +1,19 @@
+// SharedFixture.java
+package Fixtures;
+
+// Suite-wide fixtures handed out by FixtureManager. A board fixture is created inside
+// the organization fixture, so requiring BOARD implies ORGANIZATION.
+public enum SharedFixture {
+    ORGANIZATION(),
+    BOARD(ORGANIZATION);
+
+    private final SharedFixture[] prerequisites;
+
+    SharedFixture(SharedFixture... prerequisites) {
+        this.prerequisites = prerequisites;
+    }
+
+    public SharedFixture[] getPrerequisites() {
+        return prerequisites.clone();
+    }
+}
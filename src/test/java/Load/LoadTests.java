@@ -0,0 +1,118 @@
+// LoadTests.java
+package Load;
+
+import Base.TestBase;
+import Utils.ConfigReaderWriter;
+import Utils.LatencyHistogram;
+import Utils.LatencyRecorder;
+import Utils.LogManager;
+import Utils.VirtualThreads;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertTrue;
+
+// Replays the organization/board/list flow as a load scenario: load.users virtual users start over
+// load.rampup.ms and each repeats TrelloWorkflow until it has done load.iterations passes or
+// load.duration.ms has elapsed. Per-endpoint latencies go to the suite's latency report.
+public class LoadTests extends TestBase {
+    private static final int USERS = ConfigReaderWriter.getIntPropKey("load.users", 10);
+    private static final int ITERATIONS = ConfigReaderWriter.getIntPropKey("load.iterations", 1);
+    private static final long DURATION_MS = ConfigReaderWriter.getLongPropKey("load.duration.ms", 0);
+    private static final long RAMP_UP_MS = ConfigReaderWriter.getLongPropKey("load.rampup.ms", 0);
+    private static final long THINK_TIME_MS = ConfigReaderWriter.getLongPropKey("load.think.ms", 0);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(ConfigReaderWriter.getPropKey("load.max.error.rate", "0"));
+
+    private final AtomicLong completedIterations = new AtomicLong();
+    private final AtomicLong failedIterations = new AtomicLong();
+    private final LatencyHistogram iterationLatency = new LatencyHistogram();
+
+    @Test
+    public void runLoad() throws Exception {
+        assertTrue(ITERATIONS > 0 || DURATION_MS > 0, "Set load.iterations and/or load.duration.ms to bound the run");
+        LogManager.log(testClassName, String.format("Starting load: users=%d, iterations/user=%s, duration=%s, ramp-up=%dms, think=%dms, %s threads",
+                USERS, ITERATIONS > 0 ? ITERATIONS : "unbounded", DURATION_MS > 0 ? DURATION_MS + "ms" : "unbounded",
+                RAMP_UP_MS, THINK_TIME_MS, VirtualThreads.isAvailable() ? "virtual" : "platform"));
+
+        // Only the load phase should show up in the latency report, not suite setup
+        LatencyRecorder.reset();
+        TrelloWorkflow workflow = new TrelloWorkflow(testClassName, requestSpecification);
+        long start = System.nanoTime();
+        long deadline = DURATION_MS > 0 ? start + TimeUnit.MILLISECONDS.toNanos(DURATION_MS) : Long.MAX_VALUE;
+
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("load-user");
+        try {
+            List<Future<?>> users = new ArrayList<>();
+            for (int user = 0; user < USERS; user++) {
+                long startDelayNanos = USERS > 1 ? TimeUnit.MILLISECONDS.toNanos(RAMP_UP_MS) * user / (USERS - 1) : 0;
+                String userName = "user-" + (user + 1);
+                users.add(executor.submit(() -> runUser(workflow, userName, start + startDelayNanos, deadline)));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+        long completed = completedIterations.get();
+        long failed = failedIterations.get();
+        double errorRate = completed + failed == 0 ? 0 : (double) failed / (completed + failed);
+        LogManager.log(testClassName, String.format(Locale.ROOT,
+                "LOAD TEST RESULT: %d users, %d iterations (%d failed, %.1f%%) in %.1fs -> %.2f iterations/s, %.1f req/s; "
+                        + "iteration p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                USERS, completed + failed, failed, errorRate * 100, seconds, (completed + failed) / seconds,
+                LatencyRecorder.getRequestCount() / seconds,
+                iterationLatency.getPercentileMicros(50) / 1000.0, iterationLatency.getPercentileMicros(90) / 1000.0,
+                iterationLatency.getPercentileMicros(99) / 1000.0, iterationLatency.getMaxMicros() / 1000.0));
+
+        assertTrue(errorRate <= MAX_ERROR_RATE, String.format(Locale.ROOT,
+                "Iteration error rate %.2f%% exceeds load.max.error.rate %.2f%%", errorRate * 100, MAX_ERROR_RATE * 100));
+    }
+
+    private void runUser(TrelloWorkflow workflow, String userName, long startAtNanos, long deadline) {
+        if (!sleepUntil(startAtNanos)) {
+            return;
+        }
+        for (int iteration = 0; ITERATIONS <= 0 || iteration < ITERATIONS; iteration++) {
+            if (System.nanoTime() >= deadline) {
+                return;
+            }
+            long iterationStart = System.nanoTime();
+            try {
+                workflow.run(userName);
+                completedIterations.incrementAndGet();
+            } catch (RuntimeException | AssertionError e) {
+                failedIterations.incrementAndGet();
+                LogManager.log(testClassName, "Iteration " + (iteration + 1) + " of " + userName + " failed: " + e.getMessage());
+            }
+            iterationLatency.recordNanos(System.nanoTime() - iterationStart);
+
+            if (THINK_TIME_MS > 0 && !sleepUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(THINK_TIME_MS))) {
+                return;
+            }
+        }
+    }
+
+    private static boolean sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+// TrelloWorkflow.java
+package Load;
+
+import Fixtures.ResourceRegistry;
+import Models.Board;
+import Models.Organization;
+import Models.TrelloJson;
+import Models.TrelloList;
+import Utils.Endpoints;
+import Utils.LogManager;
+import Utils.TestDataHelper;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+// One pass through the flow covered by OrganizationTests, BoardTests and ListTests:
+// create organization -> create board -> create list -> read lists -> archive/unarchive list
+// -> delete board -> delete organization. Used as the unit of work of a virtual user.
+final class TrelloWorkflow {
+    private final String logName;
+    private final RequestSpecification spec;
+
+    TrelloWorkflow(String logName, RequestSpecification spec) {
+        this.logName = logName;
+        this.spec = spec;
+    }
+
+    // Runs one iteration; anything it could not delete is handed to ResourceRegistry for suite cleanup
+    void run(String userName) {
+        String organizationId = null;
+        String boardId = null;
+        try {
+            organizationId = create(Organization.class, () -> given()
+                    .spec(spec)
+                    .queryParam("displayName", TestDataHelper.getOrganizationName() + " " + userName)
+                    .post(Endpoints.organizations().path()), "POST", Endpoints.organizations().path()).getId();
+
+            String orgId = organizationId;
+            boardId = create(Board.class, () -> given()
+                    .spec(spec)
+                    .queryParam("name", TestDataHelper.getBoardName())
+                    .queryParam("idOrganization", orgId)
+                    .post(Endpoints.boards().path()), "POST", Endpoints.boards().path()).getId();
+
+            String brdId = boardId;
+            String listId = create(TrelloList.class, () -> given()
+                    .spec(spec)
+                    .queryParam("name", TestDataHelper.getListName())
+                    .queryParam("idBoard", brdId)
+                    .post(Endpoints.lists().path()), "POST", Endpoints.lists().path()).getId();
+
+            String listsEndpoint = Endpoints.boards().lists(boardId);
+            call(() -> given().spec(spec).get(listsEndpoint), "GET", listsEndpoint);
+
+            String closedEndpoint = Endpoints.lists().closed(listId);
+            call(() -> given().spec(spec).queryParam("value", true).put(closedEndpoint), "PUT", closedEndpoint);
+            call(() -> given().spec(spec).queryParam("value", false).put(closedEndpoint), "PUT", closedEndpoint);
+
+            // Deleting the board takes the list with it
+            String boardEndpoint = Endpoints.boards().byId(boardId);
+            call(() -> given().spec(spec).delete(boardEndpoint), "DELETE", boardEndpoint);
+            boardId = null;
+
+            String organizationEndpoint = Endpoints.organizations().byId(organizationId);
+            call(() -> given().spec(spec).delete(organizationEndpoint), "DELETE", organizationEndpoint);
+            organizationId = null;
+        } finally {
+            ResourceRegistry.register(ResourceRegistry.ResourceType.BOARD, boardId, organizationId, logName, spec);
+            ResourceRegistry.register(ResourceRegistry.ResourceType.ORGANIZATION, organizationId, logName, spec);
+        }
+    }
+
+    private <T> T create(Class<T> type, Supplier<Response> request, String method, String endpoint) {
+        return TrelloJson.read(call(request, method, endpoint), type);
+    }
+
+    private Response call(Supplier<Response> request, String method, String endpoint) {
+        Response response = request.get();
+        if (response.getStatusCode() != 200) {
+            LogManager.logApiCall(logName, method, endpoint, response.getStatusCode());
+            throw new IllegalStateException(method + " " + endpoint + " failed with status " + response.getStatusCode());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,29 @@
+// Board.java
+package Models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// Trello board, reduced to what the tests assert on
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Board {
+    private String id;
+    private String name;
+    private String idOrganization;
+    private boolean closed;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getIdOrganization() {
+        return idOrganization;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
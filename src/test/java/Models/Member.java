@@ -0,0 +1,24 @@
+// Member.java
+package Models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// Authenticated member from /members/me
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Member {
+    private String id;
+    private String username;
+    private String fullName;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+}
@@ -0,0 +1,24 @@
+// Organization.java
+package Models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// Trello organization (workspace) as returned by /organizations; unknown fields are ignored
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Organization {
+    private String id;
+    private String name;
+    private String displayName;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
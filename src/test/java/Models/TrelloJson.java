@@ -0,0 +1,50 @@
+// TrelloJson.java
+package Models;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Binds a response body to a DTO in one streaming pass. response.jsonPath() builds a Groovy object
+// tree and every getString() re-evaluates a GPath expression against it, so looking up fields of
+// array elements by index is quadratic; here the body is parsed once and only DTO fields are kept.
+public final class TrelloJson {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    // ObjectReaders are immutable and thread-safe, so one per target type is shared by all tests
+    private static final ConcurrentHashMap<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
+
+    private TrelloJson() {
+    }
+
+    public static <T> T read(Response response, Class<T> type) {
+        return read(response.asByteArray(), type);
+    }
+
+    public static <T> List<T> readList(Response response, Class<T> elementType) {
+        return readList(response.asByteArray(), elementType);
+    }
+
+    public static <T> T read(byte[] body, Class<T> type) {
+        try {
+            return objectReaders.computeIfAbsent(type, MAPPER::readerFor).readValue(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Response body is not a valid " + type.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static <T> List<T> readList(byte[] body, Class<T> elementType) {
+        try {
+            return listReaders.computeIfAbsent(elementType, MAPPER::readerForListOf).readValue(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Response body is not a valid " + elementType.getSimpleName() + " array: " + e.getMessage(), e);
+        }
+    }
+}
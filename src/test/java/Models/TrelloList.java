@@ -0,0 +1,29 @@
+// TrelloList.java
+package Models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// Trello list as returned by /lists and /boards/{id}/lists
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TrelloList {
+    private String id;
+    private String name;
+    private String idBoard;
+    private boolean closed;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getIdBoard() {
+        return idBoard;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
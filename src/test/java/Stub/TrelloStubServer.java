@@ -0,0 +1,365 @@
+// TrelloStubServer.java
+package Stub;
+
+import Utils.ConfigReaderWriter;
+import Utils.Endpoints;
+import Utils.TestDataHelper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// In-process, stateful stand-in for the parts of the Trello REST API the suite uses
+// (members/me, organizations, boards, lists). Selected with trello.api.target=stub.
+public final class TrelloStubServer {
+    private static final String NOT_FOUND = "The requested resource was not found.";
+    private static TrelloStubServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String basePath;
+    private final AtomicLong idSequence = new AtomicLong();
+    private final Map<String, Map<String, Object>> organizations = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> boards = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> lists = new ConcurrentHashMap<>();
+
+    private TrelloStubServer(int port, String basePath) throws IOException {
+        this.basePath = basePath;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(ConfigReaderWriter.getIntPropKey("trello.stub.threads", 8), runnable -> {
+            Thread thread = new Thread(runnable, "trello-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext(basePath.isEmpty() ? "/" : basePath, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    // Starts the shared stub on first use; the base path mirrors trello.api.base.url (e.g. /1/)
+    public static synchronized TrelloStubServer start() {
+        if (instance == null) {
+            String livePath = URI.create(ConfigReaderWriter.getPropKey("trello.api.base.url")).getPath();
+            String basePath = livePath.endsWith("/") ? livePath.substring(0, livePath.length() - 1) : livePath;
+            try {
+                instance = new TrelloStubServer(ConfigReaderWriter.getIntPropKey("trello.stub.port", 0), basePath);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to start Trello stub server", e);
+            }
+        }
+        return instance;
+    }
+
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            instance = null;
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + basePath + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            if (isBlank(query.get("key")) || isBlank(query.get("token"))) {
+                send(exchange, 401, "invalid key");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath().substring(basePath.length());
+            String method = exchange.getRequestMethod().toUpperCase();
+            String body;
+            // Operations are in-memory and tiny, so one lock keeps the shared state consistent
+            synchronized (this) {
+                body = toJson(route(method, path, query));
+            }
+            if (method.equals("GET")) {
+                // Like Trello, GETs carry a strong ETag and honour If-None-Match
+                String etag = "\"" + Integer.toHexString(body.hashCode()) + "-" + body.length() + "\"";
+                exchange.getResponseHeaders().set("ETag", etag);
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+            }
+            send(exchange, 200, body);
+        } catch (StubException e) {
+            send(exchange, e.status, e.getMessage());
+        } catch (RuntimeException e) {
+            send(exchange, 500, "Internal stub error: " + e);
+        }
+    }
+
+    private Object route(String method, String path, Map<String, String> query) {
+        List<String> segments = Arrays.stream(path.split("/")).filter(s -> !s.isEmpty()).collect(Collectors.toList());
+        if (segments.isEmpty()) {
+            throw new StubException(404, NOT_FOUND);
+        }
+
+        if (("/" + String.join("/", segments)).equals(Endpoints.members().path()) && method.equals("GET")) {
+            return member();
+        }
+
+        String collection = "/" + segments.get(0);
+        String id = segments.size() > 1 ? segments.get(1) : null;
+        String child = segments.size() > 2 ? segments.get(2) : null;
+        if (segments.size() > 3) {
+            throw new StubException(404, NOT_FOUND);
+        }
+
+        if (collection.equals(Endpoints.organizations().path())) {
+            return organizations(method, id, child, query);
+        }
+        if (collection.equals(Endpoints.boards().path())) {
+            return boards(method, id, child, query);
+        }
+        if (collection.equals(Endpoints.lists().path())) {
+            return lists(method, id, child, query);
+        }
+        throw new StubException(404, NOT_FOUND);
+    }
+
+    private Map<String, Object> member() {
+        Map<String, Object> member = new LinkedHashMap<>();
+        member.put("id", "5f0000000000000000000001");
+        member.put("username", TestDataHelper.getExpectedUsername());
+        member.put("fullName", "Trello Stub");
+        return member;
+    }
+
+    private Object organizations(String method, String id, String child, Map<String, String> query) {
+        if (id == null && method.equals("POST")) {
+            String displayName = require(query, "displayName");
+            Map<String, Object> organization = new LinkedHashMap<>();
+            organization.put("id", nextId());
+            organization.put("name", displayName.toLowerCase().replaceAll("[^a-z0-9]", "") + idSequence.get());
+            organization.put("displayName", displayName);
+            organization.put("desc", query.getOrDefault("desc", ""));
+            organizations.put((String) organization.get("id"), organization);
+            return organization;
+        }
+        if (id != null && child == null) {
+            Map<String, Object> organization = find(organizations, id);
+            if (method.equals("GET")) {
+                return organization;
+            }
+            if (method.equals("DELETE")) {
+                organizations.remove(id);
+                // Trello keeps the boards of a deleted workspace, they just lose their organization
+                boards.values().stream()
+                        .filter(board -> id.equals(board.get("idOrganization")))
+                        .forEach(board -> board.put("idOrganization", null));
+                return Collections.singletonMap("_value", null);
+            }
+        }
+        throw new StubException(404, NOT_FOUND);
+    }
+
+    private Object boards(String method, String id, String child, Map<String, String> query) {
+        if (id == null && method.equals("POST")) {
+            String name = require(query, "name");
+            String organizationId = query.get("idOrganization");
+            if (organizationId != null) {
+                find(organizations, organizationId);
+            }
+            Map<String, Object> board = new LinkedHashMap<>();
+            board.put("id", nextId());
+            board.put("name", name);
+            board.put("desc", query.getOrDefault("desc", ""));
+            board.put("closed", false);
+            board.put("idOrganization", organizationId);
+            boards.put((String) board.get("id"), board);
+            if (!"false".equals(query.get("defaultLists"))) {
+                for (String listName : List.of("To Do", "Doing", "Done")) {
+                    createList(listName, (String) board.get("id"));
+                }
+            }
+            return board;
+        }
+        if (id != null) {
+            Map<String, Object> board = find(boards, id);
+            if (child == null && method.equals("GET")) {
+                return board;
+            }
+            if (child == null && method.equals("DELETE")) {
+                boards.remove(id);
+                lists.values().removeIf(list -> id.equals(list.get("idBoard")));
+                return Collections.singletonMap("_value", null);
+            }
+            if ("lists".equals(child) && method.equals("GET")) {
+                String filter = query.getOrDefault("filter", "open");
+                return lists.values().stream()
+                        .filter(list -> id.equals(list.get("idBoard")))
+                        .filter(list -> filter.equals("all") || (Boolean) list.get("closed") == filter.equals("closed"))
+                        .sorted(Comparator.comparingDouble(list -> ((Number) list.get("pos")).doubleValue()))
+                        .collect(Collectors.toList());
+            }
+        }
+        throw new StubException(404, NOT_FOUND);
+    }
+
+    private Object lists(String method, String id, String child, Map<String, String> query) {
+        if (id == null && method.equals("POST")) {
+            String boardId = require(query, "idBoard");
+            find(boards, boardId);
+            return createList(require(query, "name"), boardId);
+        }
+        if (id != null) {
+            Map<String, Object> list = find(lists, id);
+            if (child == null && method.equals("GET")) {
+                return list;
+            }
+            if ("closed".equals(child) && method.equals("PUT")) {
+                list.put("closed", Boolean.parseBoolean(require(query, "value")));
+                return list;
+            }
+        }
+        throw new StubException(404, NOT_FOUND);
+    }
+
+    private Map<String, Object> createList(String name, String boardId) {
+        long listsOnBoard = lists.values().stream().filter(list -> boardId.equals(list.get("idBoard"))).count();
+        Map<String, Object> list = new LinkedHashMap<>();
+        list.put("id", nextId());
+        list.put("name", name);
+        list.put("closed", false);
+        list.put("idBoard", boardId);
+        list.put("pos", (listsOnBoard + 1) * 16384);
+        lists.put((String) list.get("id"), list);
+        return list;
+    }
+
+    // Trello ids are 24 hex characters
+    private String nextId() {
+        return String.format("%08x%016x", System.currentTimeMillis() / 1000, idSequence.incrementAndGet());
+    }
+
+    private static Map<String, Object> find(Map<String, Map<String, Object>> store, String id) {
+        if (!id.matches("[0-9a-fA-F]{24}")) {
+            throw new StubException(400, "invalid id");
+        }
+        Map<String, Object> resource = store.get(id);
+        if (resource == null) {
+            throw new StubException(404, NOT_FOUND);
+        }
+        return resource;
+    }
+
+    private static String require(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (isBlank(value)) {
+            throw new StubException(400, "invalid value for " + name);
+        }
+        return value;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        boolean json = status == 200;
+        exchange.getResponseHeaders().set("Content-Type", (json ? "application/json" : "text/plain") + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static String toJson(Object value) {
+        StringBuilder sb = new StringBuilder();
+        appendJson(sb, value);
+        return sb.toString();
+    }
+
+    private static void appendJson(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof String) {
+            sb.append('"');
+            for (char c : ((String) value).toCharArray()) {
+                switch (c) {
+                    case '"': sb.append("\\\""); break;
+                    case '\\': sb.append("\\\\"); break;
+                    case '\n': sb.append("\\n"); break;
+                    case '\r': sb.append("\\r"); break;
+                    case '\t': sb.append("\\t"); break;
+                    default:
+                        if (c < 0x20) {
+                            sb.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            sb.append(c);
+                        }
+                }
+            }
+            sb.append('"');
+        } else if (value instanceof Map) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                appendJson(sb, String.valueOf(entry.getKey()));
+                sb.append(':');
+                appendJson(sb, entry.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof Collection) {
+            sb.append('[');
+            boolean first = true;
+            for (Object item : (Collection<?>) value) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                appendJson(sb, item);
+            }
+            sb.append(']');
+        } else {
+            sb.append(value);
+        }
+    }
+
+    private static class StubException extends RuntimeException {
+        private final int status;
+
+        StubException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
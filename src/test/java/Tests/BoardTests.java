@@ -2,38 +2,38 @@
         package Tests;
 
 import Base.TestBase;
+import Fixtures.FixtureManager;
+import Fixtures.RequiresFixtures;
+import Fixtures.ResourceRegistry;
+import Fixtures.SharedFixture;
+import Utils.Endpoints;
 import Utils.LogManager;
-import io.restassured.path.json.JsonPath;
+import Models.Board;
+import Models.Organization;
+import Models.TrelloJson;
 import io.restassured.response.Response;
 import org.testng.annotations.*;
 import Utils.TestDataHelper;
 
+import java.util.List;
+
 import static io.restassured.RestAssured.*;
 import static org.testng.Assert.assertEquals;
 
+@RequiresFixtures(SharedFixture.ORGANIZATION)
 public class BoardTests extends TestBase {
 
-    private String organizationId;
-    private String boardId;
+    private volatile String organizationId;
+    private volatile String boardId;
 
     @BeforeClass(dependsOnMethods = "setupTestClass")
     public void createOrganization() {
-        LogManager.log(testClassName, "Creating organization for board tests: " + TestDataHelper.getOrganizationName());
-
-        Response response = given()
-                .spec(requestSpecification)
-                .queryParam("displayName", TestDataHelper.getOrganizationName())
-                .when()
-                .post(getEndpoint("trello.endpoint.organizations"));
-
-        response.then().statusCode(200);
-        logApiCall("POST", getEndpoint("trello.endpoint.organizations"), response);
-
-        organizationId = response.jsonPath().getString("id");
-        LogManager.log(testClassName, "Created organization for board tests with ID: " + organizationId);
+        // Board tests only need a parent organization, so they share the suite-wide one
+        organizationId = FixtureManager.acquireOrganization(testClassName, requestSpecification);
+        LogManager.log(testClassName, "Using organization for board tests with ID: " + organizationId);
     }
 
-    @Test(priority = 1)
+    @Test
     public void createBoardInOrganization() {
         LogManager.log(testClassName, "Creating board: " + TestDataHelper.getBoardName() + " in organization: " + organizationId);
 
@@ -42,67 +42,49 @@ public class BoardTests extends TestBase {
                 .queryParam("name", TestDataHelper.getBoardName())
                 .queryParam("idOrganization", organizationId)
                 .when()
-                .post(getEndpoint("trello.endpoint.boards"));
+                .post(Endpoints.boards().path());
 
         response.then().statusCode(200);
-        logApiCall("POST", getEndpoint("trello.endpoint.boards"), response);
+        logApiCall("POST", Endpoints.boards().path(), response);
 
-        JsonPath path = response.jsonPath();
-        boardId = path.getString("id");
+        boardId = TrelloJson.read(response, Board.class).getId();
+        ResourceRegistry.register(ResourceRegistry.ResourceType.BOARD, boardId, organizationId, testClassName, requestSpecification);
         LogManager.log(testClassName, "Successfully created board with ID: " + boardId);
     }
 
-    @Test(priority = 2)
+    @Test(dependsOnMethods = "createBoardInOrganization")
     public void getBoard() {
         LogManager.log(testClassName, "Retrieving board with ID: " + boardId);
 
-        String endpoint = getEndpoint("trello.endpoint.boards") + "/" + boardId;
-        Response response = given()
-                .spec(requestSpecification)
-                .when()
-                .get(endpoint);
+        // The board and its parent organization are independent reads, so fetch them together
+        String endpoint = Endpoints.boards().byId(boardId);
+        String organizationEndpoint = Endpoints.organizations().byId(organizationId);
+        List<Response> responses = fanOut(
+                ApiCall.of("GET", endpoint, () -> given().spec(requestSpecification).when().get(endpoint)),
+                ApiCall.of("GET", organizationEndpoint, () -> given().spec(requestSpecification).when().get(organizationEndpoint)));
+        Response response = responses.get(0);
+        Response organizationResponse = responses.get(1);
 
         response.then().statusCode(200);
-        logApiCall("GET", endpoint, response);
+        organizationResponse.then().statusCode(200);
 
-        JsonPath path = response.jsonPath();
-        assertEquals(path.getString("name"), TestDataHelper.getBoardName(),
+        Board board = TrelloJson.read(response, Board.class);
+        assertEquals(board.getName(), TestDataHelper.getBoardName(),
                 "Board name doesn't match");
-        assertEquals(path.getString("idOrganization"), organizationId,
+        assertEquals(board.getIdOrganization(), organizationId,
                 "Organization ID doesn't match");
+        assertEquals(TrelloJson.read(organizationResponse, Organization.class).getId(), board.getIdOrganization(),
+                "Board's organization can't be retrieved");
 
-        LogManager.log(testClassName, "Board retrieval successful - Name: " + path.getString("name") +
-                ", Organization ID: " + path.getString("idOrganization"));
+        LogManager.log(testClassName, "Board retrieval successful - Name: " + board.getName() +
+                ", Organization ID: " + board.getIdOrganization());
     }
 
     @AfterClass
     public void cleanup() {
-        if (boardId != null) {
-            LogManager.log(testClassName, "Starting cleanup for board ID: " + boardId);
-
-            String boardEndpoint = getEndpoint("trello.endpoint.boards") + "/" + boardId;
-            Response boardResponse = given()
-                    .spec(requestSpecification)
-                    .when()
-                    .delete(boardEndpoint);
-
-            boardResponse.then().statusCode(200);
-            logApiCall("DELETE", boardEndpoint, boardResponse);
-            LogManager.log(testClassName, "Successfully cleaned up board with ID: " + boardId);
-        }
-
+        // The board itself is removed with the rest of the suite's resources by ResourceRegistry
         if (organizationId != null) {
-            LogManager.log(testClassName, "Starting cleanup for organization ID: " + organizationId);
-
-            String orgEndpoint = getEndpoint("trello.endpoint.organizations") + "/" + organizationId;
-            Response orgResponse = given()
-                    .spec(requestSpecification)
-                    .when()
-                    .delete(orgEndpoint);
-
-            orgResponse.then().statusCode(200);
-            logApiCall("DELETE", orgEndpoint, orgResponse);
-            LogManager.log(testClassName, "Successfully cleaned up organization with ID: " + organizationId);
+            FixtureManager.releaseOrganization(testClassName);
         }
     }
-}
\ No newline at end of file
+}
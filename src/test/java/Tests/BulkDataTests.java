@@ -0,0 +1,107 @@
+package Tests;
+
+import Base.TestBase;
+import Fixtures.FixtureManager;
+import Fixtures.RequiresFixtures;
+import Fixtures.ResourceRegistry;
+import Fixtures.SharedFixture;
+import Models.Board;
+import Models.TrelloJson;
+import Models.TrelloList;
+import Utils.Endpoints;
+import Utils.LogManager;
+import Utils.TestDataGenerator;
+import Utils.TestDataHelper;
+import io.restassured.response.Response;
+import org.testng.annotations.*;
+
+import java.util.Iterator;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+
+// Create/get round-trips over test.data.bulk.count generated names per entity (unicode, punctuation,
+// single-character and maximum-length cases). Runs from BulkTest.xml: mvn test -Pbulk
+@RequiresFixtures({SharedFixture.ORGANIZATION, SharedFixture.BOARD})
+public class BulkDataTests extends TestBase {
+
+    private volatile String organizationId;
+    private volatile String boardId;
+
+    @BeforeClass(dependsOnMethods = "setupTestClass")
+    public void setup() {
+        organizationId = FixtureManager.acquireOrganization(testClassName, requestSpecification);
+        boardId = FixtureManager.acquireBoard(testClassName, requestSpecification);
+        LogManager.log(testClassName, "Bulk data tests using organization " + organizationId + " and board " + boardId);
+    }
+
+    @DataProvider(name = "boardNames")
+    public Iterator<Object[]> boardNames() {
+        return TestDataHelper.bulkNames("Board");
+    }
+
+    @DataProvider(name = "listNames")
+    public Iterator<Object[]> listNames() {
+        return TestDataHelper.bulkNames("List");
+    }
+
+    @Test(dataProvider = "boardNames")
+    public void createAndGetBoard(TestDataGenerator.Kind kind, String name) {
+        Response createResponse = given()
+                .spec(requestSpecification)
+                .queryParam("name", name)
+                .queryParam("idOrganization", organizationId)
+                .when()
+                .post(Endpoints.boards().path());
+
+        createResponse.then().statusCode(200);
+        logApiCall("POST", Endpoints.boards().path(), createResponse);
+        String createdId = TrelloJson.read(createResponse, Board.class).getId();
+        ResourceRegistry.register(ResourceRegistry.ResourceType.BOARD, createdId, organizationId, testClassName, requestSpecification);
+
+        String endpoint = Endpoints.boards().byId(createdId);
+        Response getResponse = given()
+                .spec(requestSpecification)
+                .when()
+                .get(endpoint);
+
+        getResponse.then().statusCode(200);
+        logApiCall("GET", endpoint, getResponse);
+        assertEquals(TrelloJson.read(getResponse, Board.class).getName(), name, kind + " board name doesn't round-trip");
+    }
+
+    @Test(dataProvider = "listNames")
+    public void createAndGetList(TestDataGenerator.Kind kind, String name) {
+        Response createResponse = given()
+                .spec(requestSpecification)
+                .queryParam("name", name)
+                .queryParam("idBoard", boardId)
+                .when()
+                .post(Endpoints.lists().path());
+
+        createResponse.then().statusCode(200);
+        logApiCall("POST", Endpoints.lists().path(), createResponse);
+        String createdId = TrelloJson.read(createResponse, TrelloList.class).getId();
+        ResourceRegistry.register(ResourceRegistry.ResourceType.LIST, createdId, boardId, testClassName, requestSpecification);
+
+        String endpoint = Endpoints.lists().byId(createdId);
+        Response getResponse = given()
+                .spec(requestSpecification)
+                .when()
+                .get(endpoint);
+
+        getResponse.then().statusCode(200);
+        logApiCall("GET", endpoint, getResponse);
+        assertEquals(TrelloJson.read(getResponse, TrelloList.class).getName(), name, kind + " list name doesn't round-trip");
+    }
+
+    @AfterClass
+    public void cleanup() {
+        if (boardId != null) {
+            FixtureManager.releaseBoard(testClassName);
+        }
+        if (organizationId != null) {
+            FixtureManager.releaseOrganization(testClassName);
+        }
+    }
+}
@@ -2,8 +2,14 @@
 package Tests;
 
 import Base.TestBase;
+import Fixtures.FixtureManager;
+import Fixtures.RequiresFixtures;
+import Fixtures.ResourceRegistry;
+import Fixtures.SharedFixture;
+import Utils.Endpoints;
 import Utils.LogManager;
-import io.restassured.path.json.JsonPath;
+import Models.TrelloJson;
+import Models.TrelloList;
 import io.restassured.response.Response;
 import org.testng.annotations.*;
 import Utils.TestDataHelper;
@@ -11,45 +17,22 @@ import Utils.TestDataHelper;
 import static io.restassured.RestAssured.given;
 import static org.testng.Assert.assertEquals;
 
+@RequiresFixtures(SharedFixture.BOARD)
 public class ListTests extends TestBase {
 
-    private String organizationId;
-    private String boardId;
-    private String listId;
+    private volatile String boardId;
+    private volatile String listId;
 
     @BeforeClass(dependsOnMethods = "setupTestClass")
     public void setup() {
         LogManager.log(testClassName, "Setting up prerequisites for list tests...");
 
-        // Create organization
-        LogManager.log(testClassName, "Creating organization: " + TestDataHelper.getOrganizationName());
-        Response orgResponse = given()
-                .spec(requestSpecification)
-                .queryParam("displayName", TestDataHelper.getOrganizationName())
-                .when()
-                .post(getEndpoint("trello.endpoint.organizations"));
-
-        orgResponse.then().statusCode(200);
-        logApiCall("POST", getEndpoint("trello.endpoint.organizations"), orgResponse);
-        organizationId = orgResponse.jsonPath().getString("id");
-        LogManager.log(testClassName, "Created organization for list tests with ID: " + organizationId);
-
-        // Create board
-        LogManager.log(testClassName, "Creating board: " + TestDataHelper.getBoardName());
-        Response boardResponse = given()
-                .spec(requestSpecification)
-                .queryParam("name", TestDataHelper.getBoardName())
-                .queryParam("idOrganization", organizationId)
-                .when()
-                .post(getEndpoint("trello.endpoint.boards"));
-
-        boardResponse.then().statusCode(200);
-        logApiCall("POST", getEndpoint("trello.endpoint.boards"), boardResponse);
-        boardId = boardResponse.jsonPath().getString("id");
-        LogManager.log(testClassName, "Created board for list tests with ID: " + boardId);
+        // List tests only need a parent board, so they share the suite-wide one
+        boardId = FixtureManager.acquireBoard(testClassName, requestSpecification);
+        LogManager.log(testClassName, "Using board for list tests with ID: " + boardId);
     }
 
-    @Test(priority = 1)
+    @Test
     public void createList() {
         LogManager.log(testClassName, "Creating list: " + TestDataHelper.getListName() + " on board: " + boardId);
 
@@ -58,21 +41,21 @@ public class ListTests extends TestBase {
                 .queryParam("name", TestDataHelper.getListName())
                 .queryParam("idBoard", boardId)
                 .when()
-                .post(getEndpoint("trello.endpoint.lists"));
+                .post(Endpoints.lists().path());
 
         response.then().statusCode(200);
-        logApiCall("POST", getEndpoint("trello.endpoint.lists"), response);
+        logApiCall("POST", Endpoints.lists().path(), response);
 
-        JsonPath path = response.jsonPath();
-        listId = path.getString("id");
+        listId = TrelloJson.read(response, TrelloList.class).getId();
+        ResourceRegistry.register(ResourceRegistry.ResourceType.LIST, listId, boardId, testClassName, requestSpecification);
         LogManager.log(testClassName, "Successfully created list with ID: " + listId);
     }
 
-    @Test(priority = 2)
+    @Test(dependsOnMethods = "createList")
     public void getListsOnBoard() {
         LogManager.log(testClassName, "Retrieving lists on board: " + boardId);
 
-        String endpoint = getEndpoint("trello.endpoint.boards") + "/" + boardId + "/lists";
+        String endpoint = Endpoints.boards().lists(boardId);
         Response response = given()
                 .spec(requestSpecification)
                 .when()
@@ -81,12 +64,11 @@ public class ListTests extends TestBase {
         response.then().statusCode(200);
         logApiCall("GET", endpoint, response);
 
-        JsonPath path = response.jsonPath();
         // Find the list we created in the response array
         String listName = null;
-        for (int i = 0; i < path.getList("").size(); i++) {
-            if (path.getString("[" + i + "].id").equals(listId)) {
-                listName = path.getString("[" + i + "].name");
+        for (TrelloList list : TrelloJson.readList(response, TrelloList.class)) {
+            if (list.getId().equals(listId)) {
+                listName = list.getName();
                 break;
             }
         }
@@ -94,12 +76,12 @@ public class ListTests extends TestBase {
         LogManager.log(testClassName, "List retrieval successful - Found list: " + listName);
     }
 
-    @Test(priority = 3)
+    @Test(dependsOnMethods = "getListsOnBoard")
     public void archiveAndUnarchiveList() {
         LogManager.log(testClassName, "Starting archive/unarchive operations for list: " + listId);
 
         // Archive list
-        String archiveEndpoint = getEndpoint("trello.endpoint.lists") + "/" + listId + "/closed";
+        String archiveEndpoint = Endpoints.lists().closed(listId);
         Response archiveResponse = given()
                 .spec(requestSpecification)
                 .queryParam("value", true)
@@ -123,23 +105,7 @@ public class ListTests extends TestBase {
     @AfterClass
     public void cleanup() {
         if (boardId != null) {
-            LogManager.log(testClassName, "Starting cleanup for board ID: " + boardId);
-
-            String boardEndpoint = getEndpoint("trello.endpoint.boards") + "/" + boardId;
-            Response boardResponse = given()
-                    .spec(requestSpecification)
-                    .when()
-                    .delete(boardEndpoint);
-
-            boardResponse.then().statusCode(200);
-            logApiCall("DELETE", boardEndpoint, boardResponse);
-            LogManager.log(testClassName, "Successfully cleaned up board with ID: " + boardId);
-        }
-
-        if (organizationId != null) {
-            LogManager.log(testClassName, "Starting cleanup for organization ID: " + organizationId);
-
-            String orgEndpoint = getEndpoint("trello.endpoint.organizations") + "/" + organizationId;
+            FixtureManager.releaseBoard(testClassName);
         }
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,12 @@
 package Tests;
 
 import Base.TestBase;
+import Fixtures.ResourceRegistry;
+import Utils.Endpoints;
 import Utils.LogManager;
-import io.restassured.path.json.JsonPath;
+import Models.Organization;
+import Models.TrelloJson;
 import io.restassured.response.Response;
-import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 import Utils.TestDataHelper;
 
@@ -15,9 +17,9 @@ import static org.testng.Assert.assertEquals;
 
 public class OrganizationTests extends TestBase {
 
-    private String organizationId;
+    private volatile String organizationId;
 
-    @Test(priority = 1)
+    @Test
     public void createOrganization() {
         LogManager.log(testClassName, "Creating organization: " + TestDataHelper.getOrganizationName());
 
@@ -25,22 +27,22 @@ public class OrganizationTests extends TestBase {
                 .spec(requestSpecification)
                 .queryParam("displayName", TestDataHelper.getOrganizationName())
                 .when()
-                .post(getEndpoint("trello.endpoint.organizations"));
+                .post(Endpoints.organizations().path());
 
         response.then().statusCode(200);
-        logApiCall("POST", getEndpoint("trello.endpoint.organizations"), response);
+        logApiCall("POST", Endpoints.organizations().path(), response);
 
-        JsonPath path = response.jsonPath();
-        organizationId = path.getString("id");
+        organizationId = TrelloJson.read(response, Organization.class).getId();
+        ResourceRegistry.register(ResourceRegistry.ResourceType.ORGANIZATION, organizationId, testClassName, requestSpecification);
 
         LogManager.log(testClassName, "Successfully created organization with ID: " + organizationId);
     }
 
-    @Test(priority = 2)
+    @Test(dependsOnMethods = "createOrganization")
     public void getOrganization() {
         LogManager.log(testClassName, "Retrieving organization with ID: " + organizationId);
 
-        String endpoint = getEndpoint("trello.endpoint.organizations") + "/" + organizationId;
+        String endpoint = Endpoints.organizations().byId(organizationId);
         Response response = given()
                 .spec(requestSpecification)
                 .when()
@@ -49,28 +51,10 @@ public class OrganizationTests extends TestBase {
         response.then().statusCode(200);
         logApiCall("GET", endpoint, response);
 
-        JsonPath path = response.jsonPath();
-        assertEquals(path.getString("displayName"), TestDataHelper.getOrganizationName(),
+        Organization organization = TrelloJson.read(response, Organization.class);
+        assertEquals(organization.getDisplayName(), TestDataHelper.getOrganizationName(),
                 "Organization name doesn't match");
 
-        LogManager.log(testClassName, "Organization retrieval successful - Name verified: " + path.getString("displayName"));
+        LogManager.log(testClassName, "Organization retrieval successful - Name verified: " + organization.getDisplayName());
     }
-
-    @AfterClass
-    public void cleanup() {
-        if (organizationId != null) {
-            LogManager.log(testClassName, "Starting cleanup for organization ID: " + organizationId);
-
-            String endpoint = getEndpoint("trello.endpoint.organizations") + "/" + organizationId;
-            Response response = given()
-                    .spec(requestSpecification)
-                    .when()
-                    .delete(endpoint);
-
-            response.then().statusCode(200);
-            logApiCall("DELETE", endpoint, response);
-
-            LogManager.log(testClassName, "Successfully cleaned up organization with ID: " + organizationId);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+// TestImpactIndexTests.java
+package Tests;
+
+import Utils.LogManager;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertTrue;
+
+// Runs BoardTests and ListTests as parallel classes in a separate JVM against the stub, then checks that
+// the impact index credits both classes with the identity check and the shared fixtures they use,
+// no matter which of them made the real calls and which got the cached result
+public class TestImpactIndexTests {
+    private static final String LOG_NAME = "TestImpactIndexTests";
+    private static final String SUITE_NAME = "ImpactIndexCheck";
+    private static final Path WORK_DIR = Paths.get("target", "impact-index-check");
+    private static final long TIMEOUT_MINUTES = 3;
+
+    @Test
+    public void sharedSetupEndpointsAreRecordedForEveryClass() throws Exception {
+        Path perfDir = WORK_DIR.resolve("perf");
+        Path indexFile = perfDir.resolve("test-impact-" + SUITE_NAME + ".properties");
+        Files.deleteIfExists(indexFile);
+
+        // Only the index matters here: the product tests' own results are the functional suite's business
+        int exitCode = runSuite(WORK_DIR, perfDir, "Tests.BoardTests", "Tests.ListTests");
+        LogManager.log(LOG_NAME, "Nested run exited with " + exitCode);
+        assertTrue(Files.exists(indexFile), "Nested run wrote no impact index (exit code " + exitCode + "), see "
+                + WORK_DIR.resolve("output.log"));
+
+        Properties index = new Properties();
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            index.load(reader);
+        }
+        Set<String> boardTests = entries(index, "class.BoardTests");
+        Set<String> listTests = entries(index, "class.ListTests");
+        LogManager.log(LOG_NAME, "BoardTests touched: " + boardTests);
+        LogManager.log(LOG_NAME, "ListTests touched: " + listTests);
+
+        for (String entry : Arrays.asList("GET trello.endpoint.members", "POST trello.endpoint.organizations")) {
+            assertTrue(boardTests.contains(entry), "BoardTests is missing " + entry + ": " + boardTests);
+            assertTrue(listTests.contains(entry), "ListTests is missing " + entry + ": " + listTests);
+        }
+        assertTrue(listTests.contains("POST trello.endpoint.boards"), "ListTests is missing the shared board: " + listTests);
+    }
+
+    private static int runSuite(Path workDir, Path perfDir, String... testClasses) throws IOException, InterruptedException {
+        Files.createDirectories(workDir);
+        List<String> command = new ArrayList<>(Arrays.asList(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                "-Dtrello.api.target=stub",
+                "-Dhttp.cassette.mode=off",
+                "-Dperf.report.dir=" + perfDir.toAbsolutePath(),
+                "-Dlog.dir=" + workDir.resolve("logs").toAbsolutePath(),
+                "-Dlog.events.dir=" + workDir.resolve("events").toAbsolutePath(),
+                "org.testng.TestNG",
+                "-suitename", SUITE_NAME,
+                "-parallel", "classes",
+                "-threadcount", String.valueOf(testClasses.length),
+                "-listener", "Base.TestImpactIndex",
+                "-d", workDir.resolve("testng-output").toAbsolutePath().toString(),
+                "-testclass", String.join(",", testClasses)));
+        LogManager.log(LOG_NAME, "Running " + String.join(", ", testClasses) + " in a separate JVM");
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("output.log").toFile())
+                .start();
+        if (!process.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Nested run did not finish within " + TIMEOUT_MINUTES + " minutes");
+        }
+        return process.exitValue();
+    }
+
+    private static Set<String> entries(Properties index, String key) {
+        String value = index.getProperty(key);
+        assertTrue(value != null, "No " + key + " entry in the impact index");
+        Set<String> entries = new TreeSet<>();
+        for (String entry : value.split(",")) {
+            if (!entry.isBlank()) {
+                entries.add(entry.trim());
+            }
+        }
+        return entries;
+    }
+}